@@ -0,0 +1,65 @@
+package com.MoneyPlant.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+// 쓰기 primary / 조회 replica 커넥션 풀 분리
+// @Transactional(readOnly = true) 조회는 replica 로, 나머지는 spring.datasource 의 primary 로 보냅니다.
+// replica 설정 (Hikari 속성 그대로 사용):
+//   app.datasource.replica.jdbc-url=jdbc:mysql://replica-host:3306/moneyplant
+//   app.datasource.replica.username=...
+//   app.datasource.replica.password=...
+//   app.datasource.replica.maximum-pool-size=20
+// app.datasource.replica.jdbc-url 이 없으면 조회도 primary 로 갑니다.
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "jdbc-url")
+    @ConfigurationProperties("app.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // JPA 등 애플리케이션 전체가 사용하는 DataSource
+    // 실제 커넥션은 첫 SQL 실행 시점에 가져오므로 readOnly 여부에 따라 풀이 선택되고,
+    // SQL 없이 끝나는 트랜잭션(캐시 적중 등)은 커넥션을 아예 빌리지 않습니다.
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(ReadWriteRoutingDataSource.PRIMARY, primaryDataSource);
+        targetDataSources.put(ReadWriteRoutingDataSource.REPLICA, replicaDataSource.getIfAvailable(() -> primaryDataSource));
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,32 @@
+package com.MoneyPlant.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // JDBC 배치 설정
+    // 같은 테이블 INSERT/UPDATE 를 모아서 한 번에 전송합니다.
+    // (MySQL 에서 여러 행 INSERT 로 합치려면 JDBC URL 에 rewriteBatchedStatements=true 필요)
+    public static final int JDBC_BATCH_SIZE = 100;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put("hibernate.jdbc.batch_size", JDBC_BATCH_SIZE);
+            hibernateProperties.put("hibernate.order_inserts", true);
+            hibernateProperties.put("hibernate.order_updates", true);
+            hibernateProperties.put("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+
+    // id 채번 설정
+    // 엔티티별 시퀀스(MySQL 은 테이블로 대체)에서 allocationSize 만큼 id 블록을 한 번에 받아 메모리에서 나눠 씁니다.
+    // pooled-lo : 테이블 값 = 다음 블록의 시작 id (db/pooled_id_migration.sql 참고)
+    @Bean
+    public HibernatePropertiesCustomizer idGeneratorCustomizer() {
+        return hibernateProperties -> hibernateProperties.put("hibernate.id.optimizer.pooled.preferred", "pooled-lo");
+    }
+}
@@ -0,0 +1,16 @@
+package com.MoneyPlant.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 읽기 전용 트랜잭션이면 replica, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary 커넥션 풀 사용
+// 트랜잭션 시작 시점에는 readOnly 여부가 아직 정해지지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
@@ -24,6 +24,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import javax.servlet.http.HttpServletResponse;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -43,12 +45,21 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .csrf().disable()
                 .authorizeRequests()
                 .antMatchers("/api/auth/refreshtoken").permitAll()
+                // 관리자 전용 API (크롤링 실행/상태, 전체 합계 재계산, 캐시/작업 실행권 현황)
+                .antMatchers("/api/cardrecommend/crawl").hasRole("ADMIN")
+                .antMatchers("/api/ledger/rollup/rebuild/all", "/api/ledger/cache/stats").hasRole("ADMIN")
+                .antMatchers("/api/jobs/**").hasRole("ADMIN")
                 .antMatchers("/api/**").authenticated() // Require authentication for backend URLs starting with "/api/"
                 .antMatchers("/auth/signout").authenticated()
                 .anyRequest().permitAll() // Allow access to all other URLs without authentication
                 .and()
                 .addFilterBefore(authTokenFilter(), UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling().authenticationEntryPoint(unauthorizedHandler)
+                .accessDeniedHandler((request, response, accessDeniedException) -> {
+                    response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+                    response.setContentType("text/plain;charset=UTF-8");
+                    response.getWriter().write("권한이 없습니다.");
+                })
                 .and()
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
     }
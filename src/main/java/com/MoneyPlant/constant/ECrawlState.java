@@ -0,0 +1,11 @@
+package com.MoneyPlant.constant;
+
+// 카드 크롤링 작업 상태
+public enum ECrawlState {
+    IDLE,       // 서버 시작 후 실행한 적 없음
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED,
+    TIMED_OUT
+}
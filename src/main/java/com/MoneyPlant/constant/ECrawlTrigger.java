@@ -0,0 +1,8 @@
+package com.MoneyPlant.constant;
+
+// 카드 크롤링 작업을 시작한 곳
+public enum ECrawlTrigger {
+    STARTUP,
+    SCHEDULED,
+    MANUAL
+}
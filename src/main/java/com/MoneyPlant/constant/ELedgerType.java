@@ -0,0 +1,12 @@
+package com.MoneyPlant.constant;
+
+
+public enum ELedgerType {
+    INCOME,
+    EXPENSE;
+
+    // URL 경로 값(income, expense)을 변환
+    public static ELedgerType from(String type) {
+        return ELedgerType.valueOf(type.toUpperCase());
+    }
+}
@@ -0,0 +1,7 @@
+package com.MoneyPlant.constant;
+
+
+public enum ERollupGranularity {
+    DAY,
+    MONTH
+}
@@ -0,0 +1,32 @@
+package com.MoneyPlant.constant;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+// 조회 기간이 없을 때 사용하는 전체 기간 (MySQL DATE 범위)
+public final class LedgerDateRange {
+    public static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    public static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    // 조회 시작일 (없으면 전체 기간)
+    public static LocalDate fromOrMin(String from) {
+        return from != null && !from.isEmpty() ? parse(from) : MIN_DATE;
+    }
+
+    // 조회 종료일 (없으면 전체 기간)
+    public static LocalDate toOrMax(String to) {
+        return to != null && !to.isEmpty() ? parse(to) : MAX_DATE;
+    }
+
+    // yyyy-MM-dd 형식이 아니면 IllegalArgumentException (컨트롤러에서 400 으로 응답)
+    public static LocalDate parse(String date) {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 잘못되었습니다 (yyyy-MM-dd): " + date, e);
+        }
+    }
+
+    private LedgerDateRange() {
+    }
+}
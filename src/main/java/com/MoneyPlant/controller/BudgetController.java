@@ -1,6 +1,7 @@
 package com.MoneyPlant.controller;
 
 import com.MoneyPlant.dto.BudgetDto;
+import com.MoneyPlant.dto.BudgetStatusDto;
 import com.MoneyPlant.service.BudgetService;
 import com.MoneyPlant.service.jwt.UserDetailsImpl;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 
@@ -23,16 +26,8 @@ public class BudgetController {
     public ResponseEntity<String> createBudget(
             @RequestBody List<BudgetDto> budgetDtoList,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        boolean allSuccess = true; // 모든 BudgetDto 처리 성공 여부
-
-        for (BudgetDto budgetDto : budgetDtoList) {
-            boolean isSuccess = budgetService.createBudgetForCategories(budgetDto, userDetails);
-
-            if (!isSuccess) {
-                allSuccess = false;
-                break; // 하나라도 실패하면 루프 중단
-            }
-        }
+        // 전체를 한 번의 upsert 로 저장 (하나라도 실패하면 모두 반영되지 않음)
+        boolean allSuccess = budgetService.saveBudgets(budgetDtoList, userDetails);
         HttpHeaders headers = new HttpHeaders();
 
 
@@ -45,10 +40,43 @@ public class BudgetController {
         }
     }
 
+    // 한 달의 카테고리 예산 일괄 설정 (month: yyyy-MM, 본문은 categoryId, budgetMoney 목록)
+    @PutMapping("/{month}")
+    public ResponseEntity<String> saveMonthBudgets(
+            @PathVariable String month,
+            @RequestBody List<BudgetDto> budgetDtoList,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body("month 형식이 잘못되었습니다 (yyyy-MM): " + month);
+        }
+
+        if (budgetService.saveMonthBudgets(yearMonth, budgetDtoList, userDetails)) {
+            return ResponseEntity.ok("Success");
+        } else {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("예산 생성에 실패했습니다.");
+        }
+    }
+
     // 예산 조회
     @GetMapping("")
     public ResponseEntity<List<BudgetDto>> getBudget(@AuthenticationPrincipal UserDetailsImpl userDetails) throws IllegalAccessException {
         List<BudgetDto> budgetList = budgetService.getBudgetWithCategoryNames(userDetails);
         return ResponseEntity.ok(budgetList);
     }
-}
\ No newline at end of file
+
+    // 예산 대비 지출 조회 (month: yyyy-MM, 없으면 이번 달)
+    @GetMapping("/status")
+    public ResponseEntity<?> getBudgetStatus(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String month) {
+        try {
+            List<BudgetStatusDto> budgetStatusList = budgetService.getBudgetStatus(userDetails, month);
+            return ResponseEntity.ok(budgetStatusList);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body("month 형식이 잘못되었습니다 (yyyy-MM): " + month);
+        }
+    }
+}
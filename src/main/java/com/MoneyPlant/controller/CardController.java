@@ -1,14 +1,17 @@
 package com.MoneyPlant.controller;
 
+import com.MoneyPlant.constant.ECrawlTrigger;
+import com.MoneyPlant.dto.CardCrawlStatusDto;
 import com.MoneyPlant.dto.CardDto;
+import com.MoneyPlant.dto.CardScoreDto;
 import com.MoneyPlant.service.CardService;
+import com.MoneyPlant.service.crawler.CardCrawlJob;
 import com.MoneyPlant.service.jwt.UserDetailsImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
@@ -18,6 +21,8 @@ import java.util.Map;
 public class CardController {
     @Autowired
     CardService cardService;
+    @Autowired
+    CardCrawlJob cardCrawlJob;
 
     // 카드 추천
     @GetMapping("")
@@ -31,4 +36,39 @@ public class CardController {
         List<Map<?,?>> getTop3CardList = cardService.manyTop3CardList(userDetails);
         return ResponseEntity.ok(getTop3CardList);
     }
+
+    // 지출 기반 카드 추천 (예상 월 혜택 - 월 연회비 순)
+    @GetMapping("/score")
+    public ResponseEntity<List<CardScoreDto>> getBestCardList(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                              @RequestParam(defaultValue = "5") int limit){
+        if (limit < 1 || limit > 50) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<CardScoreDto> getBestCardList = cardService.recommendBySpend(userDetails, limit);
+        return ResponseEntity.ok(getBestCardList);
+    }
+
+    // 카드 크롤링 작업 상태 (관리자)
+    @GetMapping("/crawl")
+    public ResponseEntity<?> getCrawlStatus() {
+        return ResponseEntity.ok(cardCrawlJob.getStatus());
+    }
+
+    // 카드 크롤링 즉시 실행 (관리자, 이미 실행 중이면 409 와 진행 중인 작업 상태)
+    @PostMapping("/crawl")
+    public ResponseEntity<?> startCrawl() {
+        boolean started = cardCrawlJob.start(ECrawlTrigger.MANUAL);
+        CardCrawlStatusDto status = cardCrawlJob.getStatus();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).body(status);
+    }
+
+    // 실행 중인 카드 크롤링 취소 (관리자, 기존 카드 목록은 그대로 유지)
+    @DeleteMapping("/crawl")
+    public ResponseEntity<?> cancelCrawl() {
+        if (!cardCrawlJob.cancel()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("실행 중인 카드 크롤링이 없습니다.");
+        }
+        return ResponseEntity.ok("카드 크롤링 취소를 요청했습니다.");
+    }
+
 }
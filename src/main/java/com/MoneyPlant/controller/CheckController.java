@@ -1,6 +1,8 @@
 package com.MoneyPlant.controller;
 
 
+import com.MoneyPlant.dto.CategorySpendDto;
+import com.MoneyPlant.dto.CursorPageDto;
 import com.MoneyPlant.dto.ExpenseDto;
 import com.MoneyPlant.dto.IncomeDto;
 import com.MoneyPlant.service.CheckService;
@@ -15,8 +17,10 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +48,44 @@ public class CheckController {
         return ResponseEntity.ok(expenseDtoList);
     }
 
+    // 수입&카테고리 페이지 조회 (커서 기반)
+    @GetMapping("/income/category/page")
+    public ResponseEntity<CursorPageDto<IncomeDto>> getIncomeWithCategoryPage(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Long categoryId) {
+        // 잘못된 커서, 날짜는 400
+        CursorPageDto<IncomeDto> incomePage;
+        try {
+            incomePage = checkService.getIncomeWithCategoryPage(userDetails, cursor, size, from, to, categoryId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(incomePage);
+    }
+
+    // 지출&카테고리 페이지 조회 (커서 기반)
+    @GetMapping("/expense/category/page")
+    public ResponseEntity<CursorPageDto<ExpenseDto>> getExpenseWithCategoryPage(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Long categoryId) {
+        // 잘못된 커서, 날짜는 400
+        CursorPageDto<ExpenseDto> expensePage;
+        try {
+            expensePage = checkService.getExpenseWithCategoryPage(userDetails, cursor, size, from, to, categoryId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(expensePage);
+    }
+
     // 수입&지출 카테고리 통합 조회
 //    @GetMapping("/category")
 //    public ResponseEntity<CheckService.TransactionDto> getTransactionsWithCategory(Authentication authentication) {
@@ -59,6 +101,19 @@ public class CheckController {
         Map<String, Double> categoryExpenseMap = checkService.getExpenseSumByCategory(userDetails);
         return ResponseEntity.ok(categoryExpenseMap);
     }
+
+    // 월별 카테고리 지출 합계 (month: yyyy-MM, 없으면 이번 달)
+    @GetMapping("/expense/category-spend")
+    public ResponseEntity<?> getCategorySpend(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String month) {
+        try {
+            List<CategorySpendDto> categorySpendList = checkService.getCategorySpend(userDetails, month);
+            return ResponseEntity.ok(categorySpendList);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body("month 형식이 잘못되었습니다 (yyyy-MM): " + month);
+        }
+    }
 }
 
 
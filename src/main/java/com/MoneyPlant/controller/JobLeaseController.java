@@ -0,0 +1,28 @@
+package com.MoneyPlant.controller;
+
+import com.MoneyPlant.service.lease.JobLeaseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/jobs")
+public class JobLeaseController {
+    private final JobLeaseService jobLeaseService;
+
+    // 예약 작업 실행권 현황 (관리자, SecurityConfig 에서 권한 확인)
+    // leases = DB 의 작업별 현재 보유 서버 / 만료 시각, stats = 이 서버의 획득 시도 / 성공 / 보유 시간 통계
+    @GetMapping("/leases")
+    public ResponseEntity<?> getLeases() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("leases", jobLeaseService.getLeases());
+        result.put("stats", jobLeaseService.getStats());
+        return ResponseEntity.ok(result);
+    }
+}
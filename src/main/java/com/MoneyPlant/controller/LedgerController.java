@@ -1,17 +1,31 @@
 package com.MoneyPlant.controller;
 
+import com.MoneyPlant.constant.ELedgerType;
+import com.MoneyPlant.constant.LedgerDateRange;
+import com.MoneyPlant.dto.CursorPageDto;
 import com.MoneyPlant.dto.ExpenseDto;
 import com.MoneyPlant.dto.IncomeDto;
+import com.MoneyPlant.dto.LedgerImportResultDto;
+import com.MoneyPlant.dto.LedgerPatchDto;
+import com.MoneyPlant.dto.LedgerTimelineDto;
+import com.MoneyPlant.service.LedgerExportService;
+import com.MoneyPlant.service.LedgerImportService;
 import com.MoneyPlant.service.LedgerService;
+import com.MoneyPlant.service.LedgerStatisticsCache;
 import com.MoneyPlant.service.jwt.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +37,9 @@ public class LedgerController {
 
     @Autowired
     private final LedgerService ledgerService;
+    private final LedgerImportService ledgerImportService;
+    private final LedgerExportService ledgerExportService;
+    private final LedgerStatisticsCache ledgerStatisticsCache;
 
     //등록
     // 수입 등록
@@ -71,20 +88,50 @@ public class LedgerController {
         }
     }
 
+    // 대량 등록 (type: income / expense, 본문: CSV, JSON 배열 또는 NDJSON)
+    // 행에 type 열이 있으면 행마다 그 유형으로 등록하므로 내보내기 결과(수입 + 지출)를 그대로 다시 등록할 수 있습니다.
+    @PostMapping("/import/{type}")
+    public ResponseEntity<?> importLedger(
+            @PathVariable String type,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        ELedgerType ledgerType;
+        try {
+            ledgerType = ELedgerType.from(type);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("지원하지 않는 유형입니다: " + type);
+        }
+
+        try {
+            LedgerImportResultDto result;
+            String contentType = request.getContentType();
+            if (contentType != null && (contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)
+                    || contentType.startsWith(MediaType.APPLICATION_NDJSON_VALUE))) {
+                result = ledgerImportService.importJson(userDetails.getId(), ledgerType, request.getInputStream());
+            } else {
+                result = ledgerImportService.importCsv(userDetails.getId(), ledgerType, request.getInputStream());
+            }
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException | IOException e) {
+            log.error("대량 등록 실패", e);
+            return ResponseEntity.badRequest().body("대량 등록 실패: " + e.getMessage());
+        }
+    }
+
     //수정
-    // 수입 수정
+    // 수입 수정 (본인 행만, version 이 다르면 실패)
     @PutMapping("/income/update/{incomeId}")
     public ResponseEntity<?> updateIncome(
             @PathVariable Long incomeId,
             @RequestBody IncomeDto updatedIncomeDto,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        boolean isUpdated = ledgerService.updateIncome(incomeId, updatedIncomeDto);
+        boolean isUpdated = ledgerService.updateIncome(incomeId, updatedIncomeDto, userDetails);
 
         if (isUpdated) {
             return ResponseEntity.ok("수입 정보가 성공적으로 수정되었습니다.");
         } else {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("수입 정보 수정에 실패하였습니다.");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("수입 정보를 찾을 수 없거나 이미 변경되었습니다.");
         }
     }
 
@@ -95,35 +142,117 @@ public class LedgerController {
             @RequestBody ExpenseDto updatedExpenseDto,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        boolean isUpdated = ledgerService.updateExpense(expenseId, updatedExpenseDto);
+        boolean isUpdated = ledgerService.updateExpense(expenseId, updatedExpenseDto, userDetails);
 
         if (isUpdated) {
             return ResponseEntity.ok("지출 정보가 성공적으로 수정되었습니다.");
         } else {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("지출 정보 수정에 실패하였습니다.");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("지출 정보를 찾을 수 없거나 이미 변경되었습니다.");
+        }
+    }
+
+    // 수입 부분 수정 (보낸 필드만 변경)
+    @PatchMapping("/income/{incomeId}")
+    public ResponseEntity<String> patchIncome(
+            @PathVariable Long incomeId,
+            @RequestBody LedgerPatchDto patchDto,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        if (ledgerService.updateIncome(incomeId, patchDto, userDetails)) {
+            return ResponseEntity.ok("수입 정보가 성공적으로 수정되었습니다.");
+        } else {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("수입 정보를 찾을 수 없거나 이미 변경되었습니다.");
+        }
+    }
+
+    // 지출 부분 수정
+    @PatchMapping("/expense/{expenseId}")
+    public ResponseEntity<String> patchExpense(
+            @PathVariable Long expenseId,
+            @RequestBody LedgerPatchDto patchDto,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        if (ledgerService.updateExpense(expenseId, patchDto, userDetails)) {
+            return ResponseEntity.ok("지출 정보가 성공적으로 수정되었습니다.");
+        } else {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("지출 정보를 찾을 수 없거나 이미 변경되었습니다.");
         }
     }
 
 
     // 삭제
-    // 수입 삭제
+    // 수입 삭제 (version 을 보내면 같을 때만 삭제)
     @DeleteMapping("/income/delete/{incomeId}")
-    public ResponseEntity<String> deleteIncome(@PathVariable Long incomeId) {
-        if (ledgerService.deleteIncome(incomeId)) {
+    public ResponseEntity<String> deleteIncome(
+            @PathVariable Long incomeId,
+            @RequestParam(required = false) Long version,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        if (ledgerService.deleteIncome(incomeId, version, userDetails)) {
             return ResponseEntity.ok("수입 정보가 삭제되었습니다.");
         } else {
-            return ResponseEntity.badRequest().body("수입 정보 삭제 실패");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("수입 정보를 찾을 수 없거나 이미 변경되었습니다.");
         }
     }
 
     // 지츨 삭제
     @DeleteMapping("/expense/delete/{expenseId}")
-    public ResponseEntity<String> deleteExpense(@PathVariable Long expenseId) {
-        if (ledgerService.deleteExpense(expenseId)) {
+    public ResponseEntity<String> deleteExpense(
+            @PathVariable Long expenseId,
+            @RequestParam(required = false) Long version,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        if (ledgerService.deleteExpense(expenseId, version, userDetails)) {
             return ResponseEntity.ok("지출 정보가 삭제되었습니다.");
         } else {
-            return ResponseEntity.badRequest().body("지출 정보 삭제 실패");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("지출 정보를 찾을 수 없거나 이미 변경되었습니다.");
+        }
+    }
+
+    // 수입 일괄 삭제 (ids 또는 from/to 기간)
+    @DeleteMapping("/income/bulk")
+    public ResponseEntity<?> deleteIncomes(
+            @RequestParam(required = false) List<Long> ids,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        if ((ids == null || ids.isEmpty()) && from == null && to == null) {
+            return ResponseEntity.badRequest().body("삭제할 id 목록 또는 기간을 지정해야 합니다.");
         }
+        int deleted;
+        try {
+            deleted = ledgerService.deleteIncomes(userDetails, ids, from, to);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (deleted < 0) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("수입 일괄 삭제 실패");
+        }
+        return ResponseEntity.ok(deleted);
+    }
+
+    // 지출 일괄 삭제
+    @DeleteMapping("/expense/bulk")
+    public ResponseEntity<?> deleteExpenses(
+            @RequestParam(required = false) List<Long> ids,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        if ((ids == null || ids.isEmpty()) && from == null && to == null) {
+            return ResponseEntity.badRequest().body("삭제할 id 목록 또는 기간을 지정해야 합니다.");
+        }
+        int deleted;
+        try {
+            deleted = ledgerService.deleteExpenses(userDetails, ids, from, to);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (deleted < 0) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("지출 일괄 삭제 실패");
+        }
+        return ResponseEntity.ok(deleted);
     }
 
 
@@ -142,19 +271,119 @@ public class LedgerController {
         return ResponseEntity.ok(expenseDtoList);
     }
 
+    // 수입 페이지 조회 (커서 기반)
+    @GetMapping("/income/page")
+    public ResponseEntity<CursorPageDto<IncomeDto>> getIncomePage(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Long categoryId) {
+        // 잘못된 커서, 날짜는 400
+        CursorPageDto<IncomeDto> incomePage;
+        try {
+            incomePage = ledgerService.getIncomePage(userDetails, cursor, size, from, to, categoryId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(incomePage);
+    }
+
+    // 지출 페이지 조회 (커서 기반)
+    @GetMapping("/expense/page")
+    public ResponseEntity<CursorPageDto<ExpenseDto>> getExpensePage(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Long categoryId) {
+        // 잘못된 커서, 날짜는 400
+        CursorPageDto<ExpenseDto> expensePage;
+        try {
+            expensePage = ledgerService.getExpensePage(userDetails, cursor, size, from, to, categoryId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(expensePage);
+    }
+
+    // 수입/지출 통합 목록 (날짜 내림차순, 커서 기반)
+    @GetMapping("/timeline")
+    public ResponseEntity<CursorPageDto<LedgerTimelineDto>> getTimeline(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        // 잘못된 커서, 날짜는 400
+        CursorPageDto<LedgerTimelineDto> timeline;
+        try {
+            timeline = ledgerService.getTimeline(userDetails, cursor, size, from, to);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(timeline);
+    }
+
+    // 내보내기 (format: csv / ndjson, type 생략 시 수입 + 지출)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLedger(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(defaultValue = LedgerExportService.FORMAT_CSV) String format,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        Long userId = userDetails.getId();
+        ELedgerType ledgerType = null;
+        try {
+            if (type != null) {
+                ledgerType = ELedgerType.from(type);
+            }
+            // 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 기간은 미리 검사
+            LedgerDateRange.fromOrMin(from);
+            LedgerDateRange.toOrMax(to);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        ELedgerType exportType = ledgerType;
+        boolean ndjson = LedgerExportService.FORMAT_NDJSON.equalsIgnoreCase(format);
+
+        StreamingResponseBody body = outputStream ->
+                ledgerExportService.export(userId, exportType, format, from, to, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, ndjson ? "application/x-ndjson; charset=UTF-8" : "text/csv; charset=UTF-8")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"ledger." + (ndjson ? "ndjson" : "csv") + "\"")
+                .body(body);
+    }
+
     // 일간 개별 합계
     // 수입
     @GetMapping("/income/daily")
-    public ResponseEntity<Map<String, Integer>> getDailyIncome(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        Map<String, Integer> dailyIncome = ledgerService.getDailyIncome(userDetails);
-        return ResponseEntity.ok(dailyIncome);
+    public ResponseEntity<Map<String, Integer>> getDailyIncome(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        try {
+            return ResponseEntity.ok(ledgerService.getDailyIncome(userDetails, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // yyyy-MM-dd 가 아닌 기간
+        }
     }
 
     // 지출
     @GetMapping("/expense/daily")
-    public ResponseEntity<Map<String, Integer>> getDailyExpense(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        Map<String, Integer> dailyExpense = ledgerService.getDailyExpense(userDetails);
-        return ResponseEntity.ok(dailyExpense);
+    public ResponseEntity<Map<String, Integer>> getDailyExpense(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        try {
+            return ResponseEntity.ok(ledgerService.getDailyExpense(userDetails, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
 
@@ -162,26 +391,61 @@ public class LedgerController {
     // 월간 개별 합계
     // 수입
     @GetMapping("/income/monthly")
-    public ResponseEntity<Map<String, Integer>> getMonthlyIncome(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        Map<String, Integer> monthlyIncome = ledgerService.getMonthlyIncome(userDetails);
-        return ResponseEntity.ok(monthlyIncome);
+    public ResponseEntity<Map<String, Integer>> getMonthlyIncome(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        try {
+            return ResponseEntity.ok(ledgerService.getMonthlyIncome(userDetails, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 지출
     @GetMapping("/expense/monthly")
-    public ResponseEntity<Map<String, Integer>> getMonthlyExpense(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        Map<String, Integer> monthlyExpense = ledgerService.getMonthlyExpense(userDetails);
-        return ResponseEntity.ok(monthlyExpense);
+    public ResponseEntity<Map<String, Integer>> getMonthlyExpense(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        try {
+            return ResponseEntity.ok(ledgerService.getMonthlyExpense(userDetails, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 월간 전체 합계
     @GetMapping("/statistics/monthly")
-    public ResponseEntity<Map<String, Integer>> getMonthlyStatistics(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        Map<String, Integer> monthlyStatistics = ledgerService.getMonthlyStatistics(userDetails);
-        return ResponseEntity.ok(monthlyStatistics);
+    public ResponseEntity<Map<String, Integer>> getMonthlyStatistics(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        try {
+            return ResponseEntity.ok(ledgerService.getMonthlyStatistics(userDetails, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 합계 테이블 재계산
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<String> rebuildRollups(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        ledgerService.rebuildRollups(userDetails);
+        return ResponseEntity.ok("합계 재계산 완료");
     }
 
+    // 전체 사용자 합계 재계산 (관리자)
+    @PostMapping("/rollup/rebuild/all")
+    public ResponseEntity<String> rebuildAllRollups() {
+        int userCount = ledgerService.rebuildAllRollups();
+        return ResponseEntity.ok("전체 합계 재계산 완료 (" + userCount + "명)");
+    }
 
+    // 통계 캐시 hit / miss 현황 (관리자)
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats() {
+        return ResponseEntity.ok(ledgerStatisticsCache.getStats());
+    }
 
 }
-
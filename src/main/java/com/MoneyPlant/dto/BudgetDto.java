@@ -19,4 +19,5 @@
         private Long categoryId;
         private Long userId;
         private String categoryName;
+        private long spentMoney;   // 해당 달 카테고리 실제 지출
     }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.MoneyPlant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 한 달의 카테고리별 예산 대비 지출
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetStatusDto {
+    private Long categoryId;
+    private String categoryName;
+    private long budgetMoney;
+    private long spentMoney;
+    private long remainingMoney;   // 예산 - 지출 (초과하면 음수)
+    private Double percentUsed;    // 지출 / 예산 * 100 (예산이 없으면 null)
+}
@@ -0,0 +1,28 @@
+package com.MoneyPlant.dto;
+
+import com.MoneyPlant.constant.ECrawlState;
+import com.MoneyPlant.constant.ECrawlTrigger;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 카드 크롤링 작업 진행 상황
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardCrawlStatusDto {
+    private ECrawlState state;
+    private ECrawlTrigger trigger;
+    private String phase;              // FETCH -> APPLY -> PRECOMPUTE
+    private int fetchedCategories;
+    private int totalCategories;
+    private List<String> failedCategories;
+    private String message;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,24 @@
+package com.MoneyPlant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 지출 기반 카드 추천 한 건 (금액은 모두 월 기준, 원)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardScoreDto {
+    private String cardName;
+    private String cardImg;
+    private String cardLink;
+    private String cardAnnualFee;
+    private List<String> cardDescList;
+    private long expectedBenefit; // 예상 월 혜택
+    private long monthlyFee;      // 연회비 / 12
+    private long netBenefit;      // 예상 월 혜택 - 월 연회비
+}
@@ -0,0 +1,19 @@
+package com.MoneyPlant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 월 x 카테고리 지출 합계 한 건
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorySpendDto {
+    private String month;        // yyyy-MM
+    private Long categoryId;
+    private String categoryName;
+    private long expenseSum;
+    private int expenseCount;
+}
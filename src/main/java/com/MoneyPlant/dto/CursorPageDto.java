@@ -0,0 +1,38 @@
+package com.MoneyPlant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// 커서(keyset) 기반 페이지 응답
+// 다음 페이지는 nextCursor 값을 cursor 파라미터로 넘겨 조회합니다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> items;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+
+    // pageSize + 1 건 조회한 결과로 한 페이지를 만듭니다 (한 건 더 있으면 다음 페이지가 있음)
+    // cursorOf : 마지막 행으로 다음 페이지 커서를 만드는 함수
+    public static <E, T> CursorPageDto<T> of(List<E> rows, int pageSize,
+                                             Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<T> items = new ArrayList<>(pageRows.size());
+        for (E row : pageRows) {
+            items.add(mapper.apply(row));
+        }
+
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new CursorPageDto<>(items, nextCursor, hasNext);
+    }
+}
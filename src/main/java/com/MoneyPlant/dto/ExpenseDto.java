@@ -5,6 +5,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDate;
+import java.util.Objects;
+
 
 @Getter
 @Setter
@@ -18,4 +21,12 @@ public class ExpenseDto {
     private String expenseContent;
     private Long categoryId;
     private String categoryName;
+    private Long version;   // 수정/삭제 요청 시 그대로 전달 (낙관적 잠금)
+
+    // JPQL 생성자 조회용 (날짜는 LocalDate 로 받아 yyyy-MM-dd 문자열로 변환)
+    public ExpenseDto(Long expenseId, Long userId, int expenseAmount, LocalDate expenseDate, String expenseContent,
+                      Long categoryId, String categoryName, long version) {
+        this(expenseId, userId, expenseAmount, Objects.toString(expenseDate, null), expenseContent,
+                categoryId, categoryName, version);
+    }
 }
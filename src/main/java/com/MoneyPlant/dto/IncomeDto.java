@@ -5,6 +5,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDate;
+import java.util.Objects;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -17,4 +20,12 @@ public class IncomeDto {
     private String incomeContent;
     private Long categoryIncomeId;
     private String categoryIncomeName;
+    private Long version;   // 수정/삭제 요청 시 그대로 전달 (낙관적 잠금)
+
+    // JPQL 생성자 조회용 (날짜는 LocalDate 로 받아 yyyy-MM-dd 문자열로 변환)
+    public IncomeDto(Long incomeId, Long userId, int incomeAmount, LocalDate incomeDate, String incomeContent,
+                     Long categoryIncomeId, String categoryIncomeName, long version) {
+        this(incomeId, userId, incomeAmount, Objects.toString(incomeDate, null), incomeContent,
+                categoryIncomeId, categoryIncomeName, version);
+    }
 }
@@ -0,0 +1,49 @@
+package com.MoneyPlant.dto;
+
+import com.MoneyPlant.constant.LedgerDateRange;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 가계부 목록 커서 (날짜 내림차순, 같은 날짜는 id 내림차순)
+// 형식 : yyyy-MM-dd_id  ex) "2023-07-07_152"
+// 잘못된 커서는 IllegalArgumentException (컨트롤러에서 400 으로 응답)
+@Getter
+@AllArgsConstructor
+public class LedgerCursor {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private LocalDate date;
+    private Long id;
+
+    // 커서가 없으면 첫 페이지 (가장 최근 날짜부터)
+    public static LedgerCursor parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new LedgerCursor(LedgerDateRange.MAX_DATE, Long.MAX_VALUE);
+        }
+        int separator = cursor.lastIndexOf('_');
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        try {
+            return new LedgerCursor(LedgerDateRange.parse(cursor.substring(0, separator)),
+                    Long.valueOf(cursor.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public static String encode(LocalDate date, Long id) {
+        return date + "_" + id;
+    }
+
+    public static int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
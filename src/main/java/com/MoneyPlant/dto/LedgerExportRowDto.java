@@ -0,0 +1,25 @@
+package com.MoneyPlant.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 내보내기 한 행 (CSV 헤더 / NDJSON 필드 이름 동일, 대량 등록 형식과 호환)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"type", "id", "date", "amount", "categoryId", "categoryName", "content"})
+public class LedgerExportRowDto {
+    public static final String CSV_HEADER = "type,id,date,amount,categoryId,categoryName,content";
+
+    private String type;     // income / expense
+    private Long id;
+    private String date;     // yyyy-MM-dd
+    private int amount;
+    private Long categoryId;
+    private String categoryName;
+    private String content;
+}
@@ -0,0 +1,30 @@
+package com.MoneyPlant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 대량 등록 결과 (행 번호별 실패 사유 포함)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerImportResultDto {
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private List<RowError> errors = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;        // 1부터 시작 (CSV 헤더 제외)
+        private String message;
+    }
+}
@@ -0,0 +1,21 @@
+package com.MoneyPlant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 대량 등록 한 행 (CSV 헤더 / JSON 필드 이름 동일, 내보내기 형식과 호환)
+// categoryId 또는 categoryName 중 하나만 있으면 됩니다. type 이 없으면 요청 경로의 유형을 사용합니다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerImportRowDto {
+    private String type;     // income / expense (생략 가능)
+    private String date;     // yyyy-MM-dd
+    private Integer amount;
+    private Long categoryId;
+    private String categoryName;
+    private String content;
+}
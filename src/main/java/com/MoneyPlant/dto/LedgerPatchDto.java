@@ -0,0 +1,19 @@
+package com.MoneyPlant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 수입/지출 부분 수정 요청 (null 인 필드는 기존 값 유지)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerPatchDto {
+    private Integer amount;
+    private String date;        // yyyy-MM-dd
+    private String content;
+    private Long categoryId;    // 수입이면 categoryIncomeId
+    private Long version;       // 조회 때 받은 version (null 이면 버전 확인 생략)
+}
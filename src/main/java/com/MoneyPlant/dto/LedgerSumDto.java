@@ -0,0 +1,24 @@
+package com.MoneyPlant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// 일별/월별 GROUP BY 합계 결과
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerSumDto {
+    private String bucket; // 날짜(yyyy-MM-dd) 또는 월(yyyy-MM)
+    private Long total;
+    private Long count;
+
+    // 일별 합계 (bucket = 날짜)
+    public LedgerSumDto(LocalDate bucket, Long total, Long count) {
+        this(bucket.toString(), total, count);
+    }
+}
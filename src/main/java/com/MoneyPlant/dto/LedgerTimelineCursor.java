@@ -0,0 +1,46 @@
+package com.MoneyPlant.dto;
+
+import com.MoneyPlant.constant.ELedgerType;
+import com.MoneyPlant.constant.LedgerDateRange;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 수입/지출 통합 목록 커서 (날짜 내림차순, 같은 날짜는 수입 -> 지출, 같은 종류는 id 내림차순)
+// 형식 : yyyy-MM-dd_type_id  ex) "2023-07-07_expense_152"
+@Getter
+@AllArgsConstructor
+public class LedgerTimelineCursor {
+    // 정렬용 종류 값 (내림차순이므로 큰 값이 먼저)
+    public static final int KIND_EXPENSE = 0;
+    public static final int KIND_INCOME = 1;
+
+    private LocalDate date;
+    private int kind;
+    private Long id;
+
+    // 커서가 없으면 첫 페이지 (가장 최근 날짜부터)
+    public static LedgerTimelineCursor parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new LedgerTimelineCursor(LedgerDateRange.MAX_DATE, Integer.MAX_VALUE, Long.MAX_VALUE);
+        }
+        String[] parts = cursor.split("_");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        try {
+            return new LedgerTimelineCursor(LedgerDateRange.parse(parts[0]), kindOf(ELedgerType.from(parts[1])), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public static String encode(String date, String type, Long id) {
+        return date + "_" + type + "_" + id;
+    }
+
+    public static int kindOf(ELedgerType type) {
+        return type == ELedgerType.INCOME ? KIND_INCOME : KIND_EXPENSE;
+    }
+}
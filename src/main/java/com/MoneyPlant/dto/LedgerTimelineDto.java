@@ -0,0 +1,21 @@
+package com.MoneyPlant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 수입/지출 통합 목록 한 건
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerTimelineDto {
+    private String type;     // income / expense
+    private Long id;         // incomeId 또는 expenseId
+    private String date;     // yyyy-MM-dd
+    private int amount;
+    private Long categoryId;
+    private String categoryName;
+    private String content;
+}
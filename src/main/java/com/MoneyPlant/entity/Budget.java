@@ -6,14 +6,15 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="budget")
+@Table(name="budget",
+        uniqueConstraints = @UniqueConstraint(name = "uk_budget_user_category_month", columnNames = {"id", "categoryId", "budgetMonth"}))
 @Setter
 @Getter
 @ToString
 public class Budget {
     @Id
     @Column
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long budgetId; // 예산 Id
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -28,6 +29,6 @@ public class Budget {
     private int budgetMoney; //예산 돈
 
     @Column(nullable = false)
-    private LocalDateTime budgetMonth; // 예산 달
+    private LocalDateTime budgetMonth; // 예산 달 (항상 그 달 1일 00:00 으로 저장)
 
 }
@@ -0,0 +1,24 @@
+package com.MoneyPlant.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "card_catalog_version")
+@Getter @Setter
+@ToString
+// card_list 변경 번호 (한 행, 크롤링 결과가 반영될 때마다 1 증가)
+// 각 서버는 이 값만 읽어 보고 바뀌었을 때만 카드 목록 색인을 다시 만듭니다.
+public class CardCatalogVersion {
+    public static final Long CARD_LIST = 1L;
+
+    @Id
+    @Column(name = "catalog_id")
+    private Long catalogId;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
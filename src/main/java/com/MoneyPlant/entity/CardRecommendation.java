@@ -0,0 +1,37 @@
+package com.MoneyPlant.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "card_recommendation",
+        uniqueConstraints = @UniqueConstraint(name = "uk_card_recommendation_month", columnNames = {"id", "recommend_month"}))
+@Getter @Setter
+@ToString
+// 사용자별 월 카드 추천 결과 (카드 크롤링 직후 일괄 계산, 추천 조회 시 키로 한 행만 읽음)
+public class CardRecommendation {
+    @Id
+    @Column(name = "recommendation_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long recommendationId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id", nullable = false)
+    @ToString.Exclude
+    private User user;
+
+    @Column(name = "recommend_month", length = 7, nullable = false)
+    private String recommendMonth; // yyyy-MM
+
+    @Lob
+    @Column(name = "card_json", nullable = false, columnDefinition = "MEDIUMTEXT")
+    @ToString.Exclude
+    private String cardJson; // List<CardDto> JSON
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,39 @@
+package com.MoneyPlant.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "category_spend",
+        uniqueConstraints = @UniqueConstraint(name = "uk_category_spend_month", columnNames = {"id", "spend_month", "category_id"}))
+@Getter @Setter
+@ToString
+// 사용자별 월 x 카테고리 지출 합계 (지출 등록/수정/삭제 시 증감분만 반영)
+public class CategorySpend {
+    @Id
+    @Column(name = "spend_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long spendId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id", nullable = false)
+    @ToString.Exclude
+    private User user;
+
+    @Column(name = "spend_month", length = 7, nullable = false)
+    private String spendMonth; // yyyy-MM
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    @ToString.Exclude
+    private Category category;
+
+    @Column(name = "expense_sum", nullable = false)
+    private long expenseSum;
+
+    @Column(name = "expense_count", nullable = false)
+    private int expenseCount;
+}
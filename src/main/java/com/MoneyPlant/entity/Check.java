@@ -15,7 +15,8 @@ import javax.persistence.*;
 public class Check {
     @Id
     @Column(name = "check_id")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "check_seq")
+    @SequenceGenerator(name = "check_seq", sequenceName = "check_seq", allocationSize = 50)
     private Long checkId;
 
     @ManyToOne(fetch = FetchType.LAZY)
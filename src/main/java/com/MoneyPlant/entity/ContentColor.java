@@ -14,7 +14,8 @@ import javax.persistence.*;
 public class ContentColor {
     @Id
     @Column
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content_color_seq")
+    @SequenceGenerator(name = "content_color_seq", sequenceName = "content_color_seq", allocationSize = 50)
     private Long colorId; // 전체 컬러코드 Id
 
 }
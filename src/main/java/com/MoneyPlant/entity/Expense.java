@@ -5,15 +5,17 @@ import lombok.Setter;
 import lombok.ToString;
 
 import javax.persistence.*;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "expense")
+@Table(name = "expense", indexes = @Index(name = "idx_expense_user_date", columnList = "id, expense_date"))
 @Getter @Setter
 @ToString
 public class Expense {
     @Id
     @Column(name = "expense_id")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_seq")
+    @SequenceGenerator(name = "expense_seq", sequenceName = "expense_seq", allocationSize = 50)
     private Long expenseId; // 지출 Id
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -24,7 +26,7 @@ public class Expense {
     private int expenseAmount;
 
     @Column(name = "expense_date")
-    private String expenseDate;
+    private LocalDate expenseDate;
 
     @Column(name = "expense_content")
     private String expenseContent;
@@ -32,4 +34,9 @@ public class Expense {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
+
+    // 낙관적 잠금 (수정/삭제 요청의 version 이 같을 때만 반영)
+    @Version
+    @Column(nullable = false)
+    private long version;
 }
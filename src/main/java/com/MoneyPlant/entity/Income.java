@@ -5,15 +5,17 @@ import lombok.Setter;
 import lombok.ToString;
 
 import javax.persistence.*;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "income")
+@Table(name = "income", indexes = @Index(name = "idx_income_user_date", columnList = "id, income_date"))
 @Getter @Setter
 @ToString
 public class Income {
     @Id
     @Column(name = "income_id")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "income_seq")
+    @SequenceGenerator(name = "income_seq", sequenceName = "income_seq", allocationSize = 50)
     private Long incomeId; // 수입 Id
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -24,7 +26,7 @@ public class Income {
     private int incomeAmount;
 
     @Column(name = "income_date")
-    private String incomeDate;
+    private LocalDate incomeDate;
 
     @Column(name = "income_content")
     private String incomeContent;
@@ -32,4 +34,9 @@ public class Income {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_income_id")
     private CategoryIncome categoryIncome;
+
+    // 낙관적 잠금 (수정/삭제 요청의 version 이 같을 때만 반영)
+    @Version
+    @Column(nullable = false)
+    private long version;
 }
@@ -0,0 +1,45 @@
+package com.MoneyPlant.entity;
+
+import com.MoneyPlant.constant.ERollupGranularity;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "ledger_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ledger_rollup_bucket", columnNames = {"id", "granularity", "bucket_key"}))
+@Getter @Setter
+@ToString
+// 사용자별 일/월 단위 수입, 지출 합계 (등록/수정/삭제 시 증감분만 반영)
+public class LedgerRollup {
+    @Id
+    @Column(name = "rollup_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rollupId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id", nullable = false)
+    @ToString.Exclude
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 10, nullable = false)
+    private ERollupGranularity granularity; // DAY 또는 MONTH
+
+    @Column(name = "bucket_key", length = 10, nullable = false)
+    private String bucketKey; // yyyy-MM-dd 또는 yyyy-MM
+
+    @Column(name = "income_sum", nullable = false)
+    private long incomeSum;
+
+    @Column(name = "expense_sum", nullable = false)
+    private long expenseSum;
+
+    @Column(name = "income_count", nullable = false)
+    private int incomeCount;
+
+    @Column(name = "expense_count", nullable = false)
+    private int expenseCount;
+}
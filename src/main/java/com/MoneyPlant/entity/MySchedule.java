@@ -15,7 +15,8 @@ public class MySchedule { // 약어로 sc를 사용합니다.
 
     @Id
     @Column(name = "my_sc_id")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "my_schedule_seq")
+    @SequenceGenerator(name = "my_schedule_seq", sequenceName = "my_schedule_seq", allocationSize = 50)
     private Long myScId; // 나의 일정 Id
 
     @ManyToOne(fetch = FetchType.LAZY)
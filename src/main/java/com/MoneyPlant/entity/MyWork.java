@@ -14,7 +14,8 @@ import javax.persistence.*;
 public class MyWork {
     @Id
     @Column(name = "my_wk_id")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "my_work_seq")
+    @SequenceGenerator(name = "my_work_seq", sequenceName = "my_work_seq", allocationSize = 50)
     private Long myWkId; // 마이페이지 근무 Id
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class OAuthToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "oauth_token_seq")
+    @SequenceGenerator(name = "oauth_token_seq", sequenceName = "oauth_token_seq", allocationSize = 50)
     private long id;
 
     @OneToOne
@@ -16,7 +16,8 @@ import javax.persistence.*;
 // Refresh Token은 DB에 저장해놓습니다
 public class RefreshToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_token_seq", allocationSize = 50)
     private long id;
 
     @OneToOne
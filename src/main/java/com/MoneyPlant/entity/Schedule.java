@@ -5,16 +5,18 @@ import lombok.Setter;
 import lombok.ToString;
 
 import javax.persistence.*;
+import java.time.LocalDate;
 
 @Entity
-@Table(name="schedule")
+@Table(name="schedule", indexes = @Index(name = "idx_schedule_user_date", columnList = "id, sc_date"))
 @Setter
 @Getter
 @ToString
 public class Schedule { // 약어로 sc를 사용합니다.
     @Id
     @Column(name = "sc_id")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 50)
     private Long scId; // 일정 Id
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,7 +33,7 @@ public class Schedule { // 약어로 sc를 사용합니다.
     private String scName; // 일정 이름
 
     @Column(name = "sc_date", nullable = false)
-    private String scDate; // 일정 날짜
+    private LocalDate scDate; // 일정 날짜
 
     @Column(name = "sc_budget")
     private int scBudget; // 일정 예산
@@ -5,16 +5,18 @@ import lombok.Setter;
 import lombok.ToString;
 
 import javax.persistence.*;
+import java.time.LocalDate;
 
 @Entity
-@Table(name="work")
+@Table(name="work", indexes = @Index(name = "idx_work_user_date", columnList = "id, work_date"))
 @Setter
 @Getter
 @ToString
 public class Work {
     @Id
     @Column(name = "work_id")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_seq")
+    @SequenceGenerator(name = "work_seq", sequenceName = "work_seq", allocationSize = 50)
     private Long workId; // 근무 Id
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -25,7 +27,7 @@ public class Work {
     private String workName; // 근무 이름
 
     @Column(name = "work_date", nullable = false)
-    private String workDate; // 근무 날짜
+    private LocalDate workDate; // 근무 날짜
 
     @Column(name = "work_start")
     private double workStart; // 근무 시작 시간
@@ -2,8 +2,6 @@ package com.MoneyPlant.repository;
 
 import com.MoneyPlant.dto.BudgetDto;
 import com.MoneyPlant.entity.Budget;
-import com.MoneyPlant.entity.Category;
-import com.MoneyPlant.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Temporal;
@@ -14,10 +12,34 @@ import javax.persistence.TemporalType;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
-    Budget findByUserAndCategory(User user, Category category);
     List<Budget> findByUserId(Long userId);
+
+    // uk_budget_user_category_month 키 조회 (budgetMonth 는 그 달 1일 00:00)
+    Optional<Budget> findByUserIdAndCategoryCategoryIdAndBudgetMonth(Long userId, Long categoryId, LocalDateTime budgetMonth);
+
+    // 한 달의 카테고리별 예산 대비 지출 (예산 또는 지출이 있는 카테고리만)
+    // 지출은 category_spend 의 (사용자, 월, 카테고리) 행을 키로 조인하므로 지출 내역 양과 관계없이 카테고리 수만큼만 읽습니다.
+    @Query(value = "SELECT c.category_id AS category_id, c.category_name AS category_name, " +
+            "COALESCE(SUM(b.budget_money), 0) AS budget_money, " +
+            "COALESCE(MAX(s.expense_sum), 0) AS spent_money, " +
+            "COALESCE(SUM(b.budget_money), 0) - COALESCE(MAX(s.expense_sum), 0) AS remaining_money, " +
+            "CASE WHEN SUM(b.budget_money) > 0 " +
+            "THEN ROUND(COALESCE(MAX(s.expense_sum), 0) * 100.0 / SUM(b.budget_money), 1) END AS percent_used " +
+            "FROM category c " +
+            "LEFT JOIN budget b ON b.category_id = c.category_id AND b.id = :userId " +
+            "AND b.budget_month >= :monthStart AND b.budget_month < :nextMonthStart " +
+            "LEFT JOIN category_spend s ON s.category_id = c.category_id AND s.id = :userId AND s.spend_month = :spendMonth " +
+            "GROUP BY c.category_id, c.category_name " +
+            "HAVING COUNT(b.budget_id) > 0 OR MAX(s.expense_count) > 0 " +
+            "ORDER BY c.category_id", nativeQuery = true)
+    List<Map<String, Object>> findStatusByUserIdAndMonth(@Param("userId") Long userId,
+                                                         @Param("spendMonth") String spendMonth,
+                                                         @Param("monthStart") LocalDateTime monthStart,
+                                                         @Param("nextMonthStart") LocalDateTime nextMonthStart);
 }
 
@@ -0,0 +1,21 @@
+package com.MoneyPlant.repository;
+
+import com.MoneyPlant.entity.CardCatalogVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CardCatalogVersionRepository extends JpaRepository<CardCatalogVersion, Long> {
+    // 변경 번호 1 증가 (행이 없으면 1 로 생성)
+    @Modifying
+    @Query(value = "INSERT INTO card_catalog_version (catalog_id, version) VALUES (:catalogId, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int increment(@Param("catalogId") Long catalogId);
+
+    // 현재 변경 번호 (행이 없으면 null)
+    @Query("SELECT v.version FROM CardCatalogVersion v WHERE v.catalogId = :catalogId")
+    Long findVersion(@Param("catalogId") Long catalogId);
+}
@@ -0,0 +1,26 @@
+package com.MoneyPlant.repository;
+
+import com.MoneyPlant.entity.CardRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CardRecommendationRepository extends JpaRepository<CardRecommendation, Long> {
+    // (사용자, 월) 유니크 키 조회
+    Optional<CardRecommendation> findByUserIdAndRecommendMonth(Long userId, String recommendMonth);
+
+    // 지출이 바뀐 사용자의 추천 결과 삭제 (다음 조회 때 바로 계산)
+    @Modifying
+    @Query("DELETE FROM CardRecommendation r WHERE r.user.id = :userId AND r.recommendMonth = :recommendMonth")
+    int deleteByUserIdAndRecommendMonth(@Param("userId") Long userId, @Param("recommendMonth") String recommendMonth);
+
+    // 지난 달 추천 결과 정리
+    @Modifying
+    @Query("DELETE FROM CardRecommendation r WHERE r.recommendMonth <> :recommendMonth")
+    int deleteByRecommendMonthNot(@Param("recommendMonth") String recommendMonth);
+}
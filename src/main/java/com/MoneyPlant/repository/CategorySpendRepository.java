@@ -0,0 +1,112 @@
+package com.MoneyPlant.repository;
+
+import com.MoneyPlant.entity.CategorySpend;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CategorySpendRepository extends JpaRepository<CategorySpend, Long> {
+    // 한 달의 카테고리별 합계 (uk_category_spend_month 인덱스 범위 조회, 최대 카테고리 수만큼)
+    List<CategorySpend> findByUserIdAndSpendMonth(Long userId, String spendMonth);
+
+    List<CategorySpend> findByUserIdAndSpendMonthIn(Long userId, Collection<String> spendMonths);
+
+    // 여러 사용자의 한 달 카테고리별 합계 (일괄 추천 계산용)
+    List<CategorySpend> findByUserIdInAndSpendMonth(Collection<Long> userIds, String spendMonth);
+
+    // 위와 같은 행을 잠그고 읽음 (일괄 추천 저장 중에는 해당 사용자의 지출 반영이 기다림)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CategorySpend s WHERE s.user.id IN :userIds AND s.spendMonth = :spendMonth")
+    List<CategorySpend> findForUpdate(@Param("userIds") Collection<Long> userIds,
+                                     @Param("spendMonth") String spendMonth);
+
+    // 한 달에 지출 기록이 있는 사용자 id (lastUserId 다음부터 id 순)
+    @Query("SELECT DISTINCT s.user.id FROM CategorySpend s " +
+            "WHERE s.spendMonth = :spendMonth AND s.expenseCount > 0 AND s.user.id > :lastUserId " +
+            "ORDER BY s.user.id")
+    List<Long> findUserIdsBySpendMonth(@Param("spendMonth") String spendMonth,
+                                       @Param("lastUserId") Long lastUserId,
+                                       Pageable pageable);
+
+    // (사용자, 월, 카테고리) 누적 지출 금액
+    @Query("SELECT s.expenseSum FROM CategorySpend s " +
+            "WHERE s.user.id = :userId AND s.spendMonth = :spendMonth AND s.category.categoryId = :categoryId")
+    Optional<Long> findExpenseSum(@Param("userId") Long userId,
+                                  @Param("spendMonth") String spendMonth,
+                                  @Param("categoryId") Long categoryId);
+
+    // 증감분 반영 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO category_spend (id, spend_month, category_id, expense_sum, expense_count) " +
+            "VALUES (:userId, :spendMonth, :categoryId, :amountDelta, :countDelta) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int upsertDelta(@Param("userId") Long userId,
+                    @Param("spendMonth") String spendMonth,
+                    @Param("categoryId") Long categoryId,
+                    @Param("amountDelta") long amountDelta,
+                    @Param("countDelta") int countDelta);
+
+    // 원본 지출 행을 기준으로 월 x 카테고리 증감을 한 번에 반영 (sign: 1 이면 더하고 -1 이면 뺌)
+    @Modifying
+    @Query(value = "INSERT INTO category_spend (id, spend_month, category_id, expense_sum, expense_count) " +
+            "SELECT e.id, DATE_FORMAT(e.expense_date, '%Y-%m'), e.category_id, :sign * SUM(e.expense_amount), :sign * COUNT(*) " +
+            "FROM expense e WHERE e.id = :userId AND e.expense_id IN (:expenseIds) " +
+            "GROUP BY e.id, DATE_FORMAT(e.expense_date, '%Y-%m'), e.category_id " +
+            "ON DUPLICATE KEY UPDATE " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int applyExpenseRows(@Param("userId") Long userId,
+                         @Param("expenseIds") Collection<Long> expenseIds,
+                         @Param("sign") int sign);
+
+    @Modifying
+    @Query(value = "INSERT INTO category_spend (id, spend_month, category_id, expense_sum, expense_count) " +
+            "SELECT e.id, DATE_FORMAT(e.expense_date, '%Y-%m'), e.category_id, :sign * SUM(e.expense_amount), :sign * COUNT(*) " +
+            "FROM expense e WHERE e.id = :userId AND e.expense_date BETWEEN :from AND :to " +
+            "GROUP BY e.id, DATE_FORMAT(e.expense_date, '%Y-%m'), e.category_id " +
+            "ON DUPLICATE KEY UPDATE " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int applyExpenseRange(@Param("userId") Long userId,
+                          @Param("from") LocalDate from,
+                          @Param("to") LocalDate to,
+                          @Param("sign") int sign);
+
+    // 수정 전 행(-1)과 수정 후 값(+1)의 월 x 카테고리 증감을 한 문장으로 반영 (UPDATE 직전에 호출)
+    @Modifying
+    @Query(value = "INSERT INTO category_spend (id, spend_month, category_id, expense_sum, expense_count) " +
+            "SELECT t.id, t.spend_month, t.category_id, SUM(t.amount), SUM(t.cnt) FROM (" +
+            "SELECT e.id, DATE_FORMAT(e.expense_date, '%Y-%m') AS spend_month, e.category_id, -e.expense_amount AS amount, -1 AS cnt " +
+            "FROM expense e WHERE e.expense_id = :expenseId AND e.id = :userId AND (:version IS NULL OR e.version = :version) " +
+            "UNION ALL " +
+            "SELECT e.id, DATE_FORMAT(COALESCE(:expenseDate, e.expense_date), '%Y-%m'), COALESCE(:categoryId, e.category_id), " +
+            "COALESCE(:amount, e.expense_amount), 1 " +
+            "FROM expense e WHERE e.expense_id = :expenseId AND e.id = :userId AND (:version IS NULL OR e.version = :version)" +
+            ") t GROUP BY t.id, t.spend_month, t.category_id " +
+            "ON DUPLICATE KEY UPDATE " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int applyExpensePatch(@Param("userId") Long userId,
+                          @Param("expenseId") Long expenseId,
+                          @Param("amount") Integer amount,
+                          @Param("expenseDate") LocalDate expenseDate,
+                          @Param("categoryId") Long categoryId,
+                          @Param("version") Long version);
+
+    @Modifying
+    @Query("DELETE FROM CategorySpend s WHERE s.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,27 +1,113 @@
 package com.MoneyPlant.repository;
 
 import com.MoneyPlant.dto.CategoryDto;
+import com.MoneyPlant.dto.ExpenseDto;
+import com.MoneyPlant.dto.LedgerSumDto;
 import com.MoneyPlant.entity.Expense;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     List<Expense> findByUserId(Long userId);
 
-    @Query(value = "SELECT c.category_id AS categoryId, c.category_name AS categoryName " +
-            "FROM expense e " +
-            "JOIN category c ON e.category_id = c.category_id " +
-            "WHERE e.id = :userId " +
-            "AND MONTH(e.expense_date) = MONTH(CURRENT_DATE()) " +
-            "AND YEAR(e.expense_date) = YEAR(CURRENT_DATE()) " +
-            "GROUP BY c.category_id, c.category_name " +
-            "ORDER BY COUNT(c.category_id) DESC " +
-            "LIMIT 3", nativeQuery = true)
-    List<Map<?,?>> findTop3CategoriesByUserAndCurrentMonth(@Param("userId") Long userId);
+    // 지출 + 카테고리 목록 (DTO 컬럼만 JOIN 으로 한 번에 조회, 엔티티는 만들지 않음)
+    @Query("SELECT new com.MoneyPlant.dto.ExpenseDto(e.expenseId, e.user.id, e.expenseAmount, e.expenseDate, e.expenseContent, " +
+            "c.categoryId, c.categoryName, e.version) " +
+            "FROM Expense e JOIN e.category c " +
+            "WHERE e.user.id = :userId " +
+            "ORDER BY e.expenseId")
+    List<ExpenseDto> findWithCategoryByUserId(@Param("userId") Long userId);
+
+    // (id, expense_date) 인덱스 범위 조회
+    List<Expense> findByUserIdAndExpenseDateBetween(Long userId, LocalDate from, LocalDate to);
+
+    // 커서 기반 페이지 조회 (expense_date, expense_id 내림차순)
+    // categoryId 가 null 이면 전체 카테고리
+    @Query("SELECT e FROM Expense e JOIN FETCH e.category c " +
+            "WHERE e.user.id = :userId " +
+            "AND e.expenseDate BETWEEN :from AND :to " +
+            "AND (:categoryId IS NULL OR c.categoryId = :categoryId) " +
+            "AND (e.expenseDate < :cursorDate OR (e.expenseDate = :cursorDate AND e.expenseId < :cursorId)) " +
+            "ORDER BY e.expenseDate DESC, e.expenseId DESC")
+    List<Expense> findPageByUserId(@Param("userId") Long userId,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to,
+                                   @Param("categoryId") Long categoryId,
+                                   @Param("cursorDate") LocalDate cursorDate,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    // 내보내기용 스트리밍 조회 (트랜잭션 안에서 사용, 다 쓴 뒤 close)
+    // fetch size Integer.MIN_VALUE 는 MySQL Connector/J 에서 행 단위 스트리밍을 의미합니다.
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT e FROM Expense e JOIN FETCH e.category c " +
+            "WHERE e.user.id = :userId " +
+            "AND e.expenseDate BETWEEN :from AND :to " +
+            "ORDER BY e.expenseDate, e.expenseId")
+    Stream<Expense> streamByUserId(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 일별 지출 합계 (DB에서 GROUP BY)
+    @Query("SELECT new com.MoneyPlant.dto.LedgerSumDto(e.expenseDate, SUM(e.expenseAmount), COUNT(e)) " +
+            "FROM Expense e " +
+            "WHERE e.user.id = :userId AND e.expenseDate BETWEEN :from AND :to " +
+            "GROUP BY e.expenseDate " +
+            "ORDER BY e.expenseDate")
+    List<LedgerSumDto> sumDailyByUserId(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 월별 지출 합계 (DB에서 GROUP BY, bucket = yyyy-MM)
+    @Query("SELECT new com.MoneyPlant.dto.LedgerSumDto(FUNCTION('DATE_FORMAT', e.expenseDate, '%Y-%m'), SUM(e.expenseAmount), COUNT(e)) " +
+            "FROM Expense e " +
+            "WHERE e.user.id = :userId AND e.expenseDate BETWEEN :from AND :to " +
+            "GROUP BY FUNCTION('DATE_FORMAT', e.expenseDate, '%Y-%m') " +
+            "ORDER BY FUNCTION('DATE_FORMAT', e.expenseDate, '%Y-%m')")
+    List<LedgerSumDto> sumMonthlyByUserId(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    //----------------------------------------------------------
+    // 작성자 본인 행만 한 번의 UPDATE / DELETE 로 수정, 삭제 (반영된 행이 0 이면 소유자 불일치, 삭제됨 또는 version 충돌)
+    // 부분 수정: null 인 값은 기존 값 유지, version 이 null 이면 버전 확인 생략
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE expense SET " +
+            "expense_amount = COALESCE(:amount, expense_amount), " +
+            "expense_date = COALESCE(:expenseDate, expense_date), " +
+            "expense_content = COALESCE(:content, expense_content), " +
+            "category_id = COALESCE(:categoryId, category_id), " +
+            "version = version + 1 " +
+            "WHERE expense_id = :expenseId AND id = :userId AND (:version IS NULL OR version = :version)", nativeQuery = true)
+    int updateOwned(@Param("userId") Long userId,
+                    @Param("expenseId") Long expenseId,
+                    @Param("amount") Integer amount,
+                    @Param("expenseDate") LocalDate expenseDate,
+                    @Param("content") String content,
+                    @Param("categoryId") Long categoryId,
+                    @Param("version") Long version);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM expense WHERE expense_id = :expenseId AND id = :userId " +
+            "AND (:version IS NULL OR version = :version)", nativeQuery = true)
+    int deleteOwned(@Param("userId") Long userId, @Param("expenseId") Long expenseId, @Param("version") Long version);
+
+    // 일괄 삭제 (다른 사용자의 id 는 조건에서 걸러짐)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM expense WHERE id = :userId AND expense_id IN (:expenseIds)", nativeQuery = true)
+    int deleteOwnedByIds(@Param("userId") Long userId, @Param("expenseIds") Collection<Long> expenseIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM expense WHERE id = :userId AND expense_date BETWEEN :from AND :to", nativeQuery = true)
+    int deleteOwnedByDateRange(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -1,13 +1,145 @@
 package com.MoneyPlant.repository;
 
+import com.MoneyPlant.dto.IncomeDto;
+import com.MoneyPlant.dto.LedgerSumDto;
 import com.MoneyPlant.entity.Income;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
 public interface IncomeRepository extends JpaRepository<Income, Long> {
     List<Income> findByUserId(Long userId);
 
+    // 수입 + 카테고리 목록 (DTO 컬럼만 JOIN 으로 한 번에 조회, 엔티티는 만들지 않음)
+    @Query("SELECT new com.MoneyPlant.dto.IncomeDto(i.incomeId, i.user.id, i.incomeAmount, i.incomeDate, i.incomeContent, " +
+            "ci.categoryIncomeId, ci.categoryIncomeName, i.version) " +
+            "FROM Income i JOIN i.categoryIncome ci " +
+            "WHERE i.user.id = :userId " +
+            "ORDER BY i.incomeId")
+    List<IncomeDto> findWithCategoryByUserId(@Param("userId") Long userId);
+
+    // (id, income_date) 인덱스 범위 조회
+    List<Income> findByUserIdAndIncomeDateBetween(Long userId, LocalDate from, LocalDate to);
+
+    // 커서 기반 페이지 조회 (income_date, income_id 내림차순)
+    // categoryIncomeId 가 null 이면 전체 카테고리
+    @Query("SELECT i FROM Income i JOIN FETCH i.categoryIncome ci " +
+            "WHERE i.user.id = :userId " +
+            "AND i.incomeDate BETWEEN :from AND :to " +
+            "AND (:categoryIncomeId IS NULL OR ci.categoryIncomeId = :categoryIncomeId) " +
+            "AND (i.incomeDate < :cursorDate OR (i.incomeDate = :cursorDate AND i.incomeId < :cursorId)) " +
+            "ORDER BY i.incomeDate DESC, i.incomeId DESC")
+    List<Income> findPageByUserId(@Param("userId") Long userId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to,
+                                  @Param("categoryIncomeId") Long categoryIncomeId,
+                                  @Param("cursorDate") LocalDate cursorDate,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
+
+    // 내보내기용 스트리밍 조회 (트랜잭션 안에서 사용, 다 쓴 뒤 close)
+    // fetch size Integer.MIN_VALUE 는 MySQL Connector/J 에서 행 단위 스트리밍을 의미합니다.
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT i FROM Income i JOIN FETCH i.categoryIncome ci " +
+            "WHERE i.user.id = :userId " +
+            "AND i.incomeDate BETWEEN :from AND :to " +
+            "ORDER BY i.incomeDate, i.incomeId")
+    Stream<Income> streamByUserId(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 수입/지출 통합 목록 (UNION ALL, 커서 기반)
+    // 각 쪽에서 (id, 날짜) 인덱스 순서로 :limit 건만 읽은 뒤 합쳐서 다시 :limit 건으로 자릅니다.
+    // 정렬 : 날짜 내림차순, 같은 날짜는 kind 내림차순(수입 1, 지출 0), 같은 종류는 id 내림차순
+    @Query(value = "SELECT t.type, t.entry_id, t.entry_date, t.amount, t.category_id, t.category_name, t.content FROM (" +
+            "(SELECT 'income' AS type, 1 AS kind, i.income_id AS entry_id, i.income_date AS entry_date, " +
+            "i.income_amount AS amount, ci.category_income_id AS category_id, ci.category_income_name AS category_name, " +
+            "i.income_content AS content " +
+            "FROM income i JOIN category_income ci ON i.category_income_id = ci.category_income_id " +
+            "WHERE i.id = :userId AND i.income_date BETWEEN :from AND :to " +
+            "AND (i.income_date < :cursorDate OR (i.income_date = :cursorDate " +
+            "AND (1 < :cursorKind OR (1 = :cursorKind AND i.income_id < :cursorId)))) " +
+            "ORDER BY i.income_date DESC, i.income_id DESC LIMIT :limit) " +
+            "UNION ALL " +
+            "(SELECT 'expense' AS type, 0 AS kind, e.expense_id AS entry_id, e.expense_date AS entry_date, " +
+            "e.expense_amount AS amount, c.category_id AS category_id, c.category_name AS category_name, " +
+            "e.expense_content AS content " +
+            "FROM expense e JOIN category c ON e.category_id = c.category_id " +
+            "WHERE e.id = :userId AND e.expense_date BETWEEN :from AND :to " +
+            "AND (e.expense_date < :cursorDate OR (e.expense_date = :cursorDate " +
+            "AND (0 < :cursorKind OR (0 = :cursorKind AND e.expense_id < :cursorId)))) " +
+            "ORDER BY e.expense_date DESC, e.expense_id DESC LIMIT :limit)" +
+            ") t " +
+            "ORDER BY t.entry_date DESC, t.kind DESC, t.entry_id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Map<String, Object>> findTimelineByUserId(@Param("userId") Long userId,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to,
+                                                   @Param("cursorDate") LocalDate cursorDate,
+                                                   @Param("cursorKind") int cursorKind,
+                                                   @Param("cursorId") Long cursorId,
+                                                   @Param("limit") int limit);
+
+    // 일별 수입 합계 (DB에서 GROUP BY)
+    @Query("SELECT new com.MoneyPlant.dto.LedgerSumDto(i.incomeDate, SUM(i.incomeAmount), COUNT(i)) " +
+            "FROM Income i " +
+            "WHERE i.user.id = :userId AND i.incomeDate BETWEEN :from AND :to " +
+            "GROUP BY i.incomeDate " +
+            "ORDER BY i.incomeDate")
+    List<LedgerSumDto> sumDailyByUserId(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 월별 수입 합계 (DB에서 GROUP BY, bucket = yyyy-MM)
+    @Query("SELECT new com.MoneyPlant.dto.LedgerSumDto(FUNCTION('DATE_FORMAT', i.incomeDate, '%Y-%m'), SUM(i.incomeAmount), COUNT(i)) " +
+            "FROM Income i " +
+            "WHERE i.user.id = :userId AND i.incomeDate BETWEEN :from AND :to " +
+            "GROUP BY FUNCTION('DATE_FORMAT', i.incomeDate, '%Y-%m') " +
+            "ORDER BY FUNCTION('DATE_FORMAT', i.incomeDate, '%Y-%m')")
+    List<LedgerSumDto> sumMonthlyByUserId(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    //----------------------------------------------------------
+    // 작성자 본인 행만 한 번의 UPDATE / DELETE 로 수정, 삭제 (반영된 행이 0 이면 소유자 불일치, 삭제됨 또는 version 충돌)
+    // 부분 수정: null 인 값은 기존 값 유지, version 이 null 이면 버전 확인 생략
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE income SET " +
+            "income_amount = COALESCE(:amount, income_amount), " +
+            "income_date = COALESCE(:incomeDate, income_date), " +
+            "income_content = COALESCE(:content, income_content), " +
+            "category_income_id = COALESCE(:categoryIncomeId, category_income_id), " +
+            "version = version + 1 " +
+            "WHERE income_id = :incomeId AND id = :userId AND (:version IS NULL OR version = :version)", nativeQuery = true)
+    int updateOwned(@Param("userId") Long userId,
+                    @Param("incomeId") Long incomeId,
+                    @Param("amount") Integer amount,
+                    @Param("incomeDate") LocalDate incomeDate,
+                    @Param("content") String content,
+                    @Param("categoryIncomeId") Long categoryIncomeId,
+                    @Param("version") Long version);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM income WHERE income_id = :incomeId AND id = :userId " +
+            "AND (:version IS NULL OR version = :version)", nativeQuery = true)
+    int deleteOwned(@Param("userId") Long userId, @Param("incomeId") Long incomeId, @Param("version") Long version);
+
+    // 일괄 삭제 (다른 사용자의 id 는 조건에서 걸러짐)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM income WHERE id = :userId AND income_id IN (:incomeIds)", nativeQuery = true)
+    int deleteOwnedByIds(@Param("userId") Long userId, @Param("incomeIds") Collection<Long> incomeIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM income WHERE id = :userId AND income_date BETWEEN :from AND :to", nativeQuery = true)
+    int deleteOwnedByDateRange(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -0,0 +1,44 @@
+package com.MoneyPlant.repository;
+
+import com.MoneyPlant.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+    // 작업 행이 없으면 만료된 상태로 생성 (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_lease (job_name, owner, acquired_at, heartbeat_at, lease_until) " +
+            "VALUES (:jobName, '', :now, :now, :now)", nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName, @Param("now") LocalDateTime now);
+
+    // 만료된 실행권만 가져옴 (행 잠금으로 동시에 한 서버만 1행 갱신)
+    @Modifying
+    @Query(value = "UPDATE job_lease SET owner = :owner, acquired_at = :now, heartbeat_at = :now, lease_until = :leaseUntil " +
+            "WHERE job_name = :jobName AND lease_until <= :now", nativeQuery = true)
+    int acquire(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 보유 중인 실행권 연장 (0행이면 다른 서버로 넘어간 것)
+    @Modifying
+    @Query(value = "UPDATE job_lease SET heartbeat_at = :now, lease_until = :leaseUntil " +
+            "WHERE job_name = :jobName AND owner = :owner", nativeQuery = true)
+    int extend(@Param("jobName") String jobName,
+               @Param("owner") String owner,
+               @Param("now") LocalDateTime now,
+               @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 반납 (바로 만료시켜 다른 서버가 다음 실행 때 가져갈 수 있게 함)
+    @Modifying
+    @Query(value = "UPDATE job_lease SET lease_until = :now WHERE job_name = :jobName AND owner = :owner", nativeQuery = true)
+    int release(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+}
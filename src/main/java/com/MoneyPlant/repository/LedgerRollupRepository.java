@@ -0,0 +1,171 @@
+package com.MoneyPlant.repository;
+
+import com.MoneyPlant.constant.ERollupGranularity;
+import com.MoneyPlant.entity.LedgerRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LedgerRollupRepository extends JpaRepository<LedgerRollup, Long> {
+    List<LedgerRollup> findByUserIdAndGranularityAndBucketKeyBetweenOrderByBucketKey(
+            Long userId, ERollupGranularity granularity, String from, String to);
+
+    // 일/월 bucket 증감분을 한 문장으로 반영 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO ledger_rollup (id, granularity, bucket_key, income_sum, expense_sum, income_count, expense_count) " +
+            "VALUES (:userId, 'DAY', :dayKey, :incomeDelta, :expenseDelta, :incomeCountDelta, :expenseCountDelta), " +
+            "(:userId, 'MONTH', :monthKey, :incomeDelta, :expenseDelta, :incomeCountDelta, :expenseCountDelta) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "income_sum = income_sum + VALUES(income_sum), " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "income_count = income_count + VALUES(income_count), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int upsertDayAndMonthDelta(@Param("userId") Long userId,
+                               @Param("dayKey") String dayKey,
+                               @Param("monthKey") String monthKey,
+                               @Param("incomeDelta") long incomeDelta,
+                               @Param("expenseDelta") long expenseDelta,
+                               @Param("incomeCountDelta") int incomeCountDelta,
+                               @Param("expenseCountDelta") int expenseCountDelta);
+
+    // 원본 행을 기준으로 일/월 bucket 증감을 한 번에 반영 (sign: 1 이면 더하고 -1 이면 뺌)
+    // 수정/삭제 직전(-1), 수정 직후(+1)에 호출해서 행을 읽어오지 않고 합계를 맞춥니다.
+    @Modifying
+    @Query(value = "INSERT INTO ledger_rollup (id, granularity, bucket_key, income_sum, expense_sum, income_count, expense_count) " +
+            "SELECT t.id, t.granularity, t.bucket_key, :sign * SUM(t.amount), 0, :sign * COUNT(*), 0 FROM (" +
+            "SELECT i.id, 'DAY' AS granularity, DATE_FORMAT(i.income_date, '%Y-%m-%d') AS bucket_key, i.income_amount AS amount " +
+            "FROM income i WHERE i.id = :userId AND i.income_id IN (:incomeIds) " +
+            "UNION ALL " +
+            "SELECT i.id, 'MONTH', DATE_FORMAT(i.income_date, '%Y-%m'), i.income_amount " +
+            "FROM income i WHERE i.id = :userId AND i.income_id IN (:incomeIds)" +
+            ") t GROUP BY t.id, t.granularity, t.bucket_key " +
+            "ON DUPLICATE KEY UPDATE " +
+            "income_sum = income_sum + VALUES(income_sum), " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "income_count = income_count + VALUES(income_count), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int applyIncomeRows(@Param("userId") Long userId,
+                        @Param("incomeIds") Collection<Long> incomeIds,
+                        @Param("sign") int sign);
+
+    @Modifying
+    @Query(value = "INSERT INTO ledger_rollup (id, granularity, bucket_key, income_sum, expense_sum, income_count, expense_count) " +
+            "SELECT t.id, t.granularity, t.bucket_key, :sign * SUM(t.amount), 0, :sign * COUNT(*), 0 FROM (" +
+            "SELECT i.id, 'DAY' AS granularity, DATE_FORMAT(i.income_date, '%Y-%m-%d') AS bucket_key, i.income_amount AS amount " +
+            "FROM income i WHERE i.id = :userId AND i.income_date BETWEEN :from AND :to " +
+            "UNION ALL " +
+            "SELECT i.id, 'MONTH', DATE_FORMAT(i.income_date, '%Y-%m'), i.income_amount " +
+            "FROM income i WHERE i.id = :userId AND i.income_date BETWEEN :from AND :to" +
+            ") t GROUP BY t.id, t.granularity, t.bucket_key " +
+            "ON DUPLICATE KEY UPDATE " +
+            "income_sum = income_sum + VALUES(income_sum), " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "income_count = income_count + VALUES(income_count), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int applyIncomeRange(@Param("userId") Long userId,
+                         @Param("from") LocalDate from,
+                         @Param("to") LocalDate to,
+                         @Param("sign") int sign);
+
+    @Modifying
+    @Query(value = "INSERT INTO ledger_rollup (id, granularity, bucket_key, income_sum, expense_sum, income_count, expense_count) " +
+            "SELECT t.id, t.granularity, t.bucket_key, 0, :sign * SUM(t.amount), 0, :sign * COUNT(*) FROM (" +
+            "SELECT e.id, 'DAY' AS granularity, DATE_FORMAT(e.expense_date, '%Y-%m-%d') AS bucket_key, e.expense_amount AS amount " +
+            "FROM expense e WHERE e.id = :userId AND e.expense_id IN (:expenseIds) " +
+            "UNION ALL " +
+            "SELECT e.id, 'MONTH', DATE_FORMAT(e.expense_date, '%Y-%m'), e.expense_amount " +
+            "FROM expense e WHERE e.id = :userId AND e.expense_id IN (:expenseIds)" +
+            ") t GROUP BY t.id, t.granularity, t.bucket_key " +
+            "ON DUPLICATE KEY UPDATE " +
+            "income_sum = income_sum + VALUES(income_sum), " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "income_count = income_count + VALUES(income_count), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int applyExpenseRows(@Param("userId") Long userId,
+                         @Param("expenseIds") Collection<Long> expenseIds,
+                         @Param("sign") int sign);
+
+    @Modifying
+    @Query(value = "INSERT INTO ledger_rollup (id, granularity, bucket_key, income_sum, expense_sum, income_count, expense_count) " +
+            "SELECT t.id, t.granularity, t.bucket_key, 0, :sign * SUM(t.amount), 0, :sign * COUNT(*) FROM (" +
+            "SELECT e.id, 'DAY' AS granularity, DATE_FORMAT(e.expense_date, '%Y-%m-%d') AS bucket_key, e.expense_amount AS amount " +
+            "FROM expense e WHERE e.id = :userId AND e.expense_date BETWEEN :from AND :to " +
+            "UNION ALL " +
+            "SELECT e.id, 'MONTH', DATE_FORMAT(e.expense_date, '%Y-%m'), e.expense_amount " +
+            "FROM expense e WHERE e.id = :userId AND e.expense_date BETWEEN :from AND :to" +
+            ") t GROUP BY t.id, t.granularity, t.bucket_key " +
+            "ON DUPLICATE KEY UPDATE " +
+            "income_sum = income_sum + VALUES(income_sum), " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "income_count = income_count + VALUES(income_count), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int applyExpenseRange(@Param("userId") Long userId,
+                          @Param("from") LocalDate from,
+                          @Param("to") LocalDate to,
+                          @Param("sign") int sign);
+
+    // 수정 전 행(-1)과 수정 후 값(+1)의 일/월 bucket 증감을 한 문장으로 반영 (UPDATE 직전에 호출)
+    // 변경할 값이 null 이면 기존 값을 그대로 사용하고, 조건(본인 행, version)은 updateOwned 와 같습니다.
+    @Modifying
+    @Query(value = "INSERT INTO ledger_rollup (id, granularity, bucket_key, income_sum, expense_sum, income_count, expense_count) " +
+            "SELECT t.id, t.granularity, t.bucket_key, SUM(t.amount), 0, SUM(t.cnt), 0 FROM (" +
+            "SELECT i.id, 'DAY' AS granularity, DATE_FORMAT(i.income_date, '%Y-%m-%d') AS bucket_key, -i.income_amount AS amount, -1 AS cnt " +
+            "FROM income i WHERE i.income_id = :incomeId AND i.id = :userId AND (:version IS NULL OR i.version = :version) " +
+            "UNION ALL " +
+            "SELECT i.id, 'MONTH', DATE_FORMAT(i.income_date, '%Y-%m'), -i.income_amount, -1 " +
+            "FROM income i WHERE i.income_id = :incomeId AND i.id = :userId AND (:version IS NULL OR i.version = :version) " +
+            "UNION ALL " +
+            "SELECT i.id, 'DAY', DATE_FORMAT(COALESCE(:incomeDate, i.income_date), '%Y-%m-%d'), COALESCE(:amount, i.income_amount), 1 " +
+            "FROM income i WHERE i.income_id = :incomeId AND i.id = :userId AND (:version IS NULL OR i.version = :version) " +
+            "UNION ALL " +
+            "SELECT i.id, 'MONTH', DATE_FORMAT(COALESCE(:incomeDate, i.income_date), '%Y-%m'), COALESCE(:amount, i.income_amount), 1 " +
+            "FROM income i WHERE i.income_id = :incomeId AND i.id = :userId AND (:version IS NULL OR i.version = :version)" +
+            ") t GROUP BY t.id, t.granularity, t.bucket_key " +
+            "ON DUPLICATE KEY UPDATE " +
+            "income_sum = income_sum + VALUES(income_sum), " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "income_count = income_count + VALUES(income_count), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int applyIncomePatch(@Param("userId") Long userId,
+                         @Param("incomeId") Long incomeId,
+                         @Param("amount") Integer amount,
+                         @Param("incomeDate") LocalDate incomeDate,
+                         @Param("version") Long version);
+
+    @Modifying
+    @Query(value = "INSERT INTO ledger_rollup (id, granularity, bucket_key, income_sum, expense_sum, income_count, expense_count) " +
+            "SELECT t.id, t.granularity, t.bucket_key, 0, SUM(t.amount), 0, SUM(t.cnt) FROM (" +
+            "SELECT e.id, 'DAY' AS granularity, DATE_FORMAT(e.expense_date, '%Y-%m-%d') AS bucket_key, -e.expense_amount AS amount, -1 AS cnt " +
+            "FROM expense e WHERE e.expense_id = :expenseId AND e.id = :userId AND (:version IS NULL OR e.version = :version) " +
+            "UNION ALL " +
+            "SELECT e.id, 'MONTH', DATE_FORMAT(e.expense_date, '%Y-%m'), -e.expense_amount, -1 " +
+            "FROM expense e WHERE e.expense_id = :expenseId AND e.id = :userId AND (:version IS NULL OR e.version = :version) " +
+            "UNION ALL " +
+            "SELECT e.id, 'DAY', DATE_FORMAT(COALESCE(:expenseDate, e.expense_date), '%Y-%m-%d'), COALESCE(:amount, e.expense_amount), 1 " +
+            "FROM expense e WHERE e.expense_id = :expenseId AND e.id = :userId AND (:version IS NULL OR e.version = :version) " +
+            "UNION ALL " +
+            "SELECT e.id, 'MONTH', DATE_FORMAT(COALESCE(:expenseDate, e.expense_date), '%Y-%m'), COALESCE(:amount, e.expense_amount), 1 " +
+            "FROM expense e WHERE e.expense_id = :expenseId AND e.id = :userId AND (:version IS NULL OR e.version = :version)" +
+            ") t GROUP BY t.id, t.granularity, t.bucket_key " +
+            "ON DUPLICATE KEY UPDATE " +
+            "income_sum = income_sum + VALUES(income_sum), " +
+            "expense_sum = expense_sum + VALUES(expense_sum), " +
+            "income_count = income_count + VALUES(income_count), " +
+            "expense_count = expense_count + VALUES(expense_count)", nativeQuery = true)
+    int applyExpensePatch(@Param("userId") Long userId,
+                          @Param("expenseId") Long expenseId,
+                          @Param("amount") Integer amount,
+                          @Param("expenseDate") LocalDate expenseDate,
+                          @Param("version") Long version);
+
+    @Modifying
+    @Query("DELETE FROM LedgerRollup r WHERE r.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -4,12 +4,16 @@ import com.MoneyPlant.entity.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     List<Schedule> findByUserId(Long userId);
 
+    // (id, sc_date) 인덱스 범위 조회
+    List<Schedule> findByUserIdAndScDateBetween(Long userId, LocalDate from, LocalDate to);
+
     Schedule findByScId(Long scId);
 
     void deleteByScId(Long scId);
@@ -1,9 +1,13 @@
 package com.MoneyPlant.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.MoneyPlant.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +17,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     //    Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
+
+    // 사용자 id 를 lastUserId 다음부터 id 순으로 (전체 사용자 일괄 작업용)
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastUserId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
 }
\ No newline at end of file
@@ -4,9 +4,13 @@ import com.MoneyPlant.entity.Work;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface WorkRepository extends JpaRepository <Work, Long> {
     List<Work> findByUserId(Long userId);
+
+    // (id, work_date) 인덱스 범위 조회
+    List<Work> findByUserIdAndWorkDateBetween(Long userId, LocalDate from, LocalDate to);
 }
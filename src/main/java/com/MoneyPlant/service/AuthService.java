@@ -9,7 +9,6 @@ import com.MoneyPlant.entity.RefreshToken;
 import com.MoneyPlant.entity.Role;
 import com.MoneyPlant.entity.User;
 import com.MoneyPlant.repository.OAuthTokenRepository;
-import com.MoneyPlant.repository.RoleRepository;
 import com.MoneyPlant.repository.UserRepository;
 import com.MoneyPlant.security.exception.TokenRefreshException;
 import com.MoneyPlant.security.jwt.JwtUtils;
@@ -43,7 +42,7 @@ import javax.servlet.http.HttpServletRequest;
 public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final PasswordEncoder encoder;
     private final JwtUtils jwtUtils;
 
@@ -64,17 +63,17 @@ public class AuthService {
 
         // user 에 role 부여 (유저 / 관리자  기본값: 유저)
         if (requestRole == null) {
-            Role userRole = roleRepository.findByName(ERole.ROLE_USER)
+            Role userRole = referenceDataRegistry.findRole(ERole.ROLE_USER)
                     .orElseThrow(() -> new RuntimeException("Error: Role is not found."));
             role = userRole;
         } else {    // 값이 있다면 해당 값을 Role 객체로 바꾸어 설정
             if (requestRole.equals("admin")) {
                 System.out.println("admin으로 적용");
-                Role adminRole = roleRepository.findByName(ERole.ROLE_ADMIN)
+                Role adminRole = referenceDataRegistry.findRole(ERole.ROLE_ADMIN)
                         .orElseThrow(() -> new RuntimeException("Error: Role is not found."));
                 role = adminRole;
             } else {
-                Role userRole = roleRepository.findByName(ERole.ROLE_USER)
+                Role userRole = referenceDataRegistry.findRole(ERole.ROLE_USER)
                         .orElseThrow(() -> new RuntimeException("Error: Role is not found."));
                 role = userRole;
             }
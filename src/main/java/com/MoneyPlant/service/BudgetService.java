@@ -1,13 +1,12 @@
 package com.MoneyPlant.service;
 
 import com.MoneyPlant.dto.BudgetDto;
+import com.MoneyPlant.dto.BudgetStatusDto;
 import com.MoneyPlant.dto.CategoryDto;
 import com.MoneyPlant.entity.Budget;
 import com.MoneyPlant.entity.Category;
-import com.MoneyPlant.entity.User;
 import com.MoneyPlant.repository.BudgetRepository;
 import com.MoneyPlant.repository.CategoryRepository;
-import com.MoneyPlant.repository.UserRepository;
 import com.MoneyPlant.service.jwt.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,17 +16,18 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import javax.security.auth.kerberos.KerberosKey;
 import javax.servlet.http.HttpServletRequest;
 import javax.sql.RowSet;
-import javax.transaction.Transactional;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
-import java.util.Optional;
+import java.time.YearMonth;
+import java.util.*;
 
 
 @Transactional
@@ -37,7 +37,9 @@ import java.util.Optional;
 public class BudgetService {
     private final BudgetRepository budgetRepository;
     private final CategoryRepository categoryRepository;
-    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final CategorySpendService categorySpendService;
 
     @PostConstruct
     public void insertCategoryData() {
@@ -75,41 +77,75 @@ public class BudgetService {
 
     // 나의 예산 생성
     public boolean createBudgetForCategories(BudgetDto budgetDto, UserDetailsImpl userDetails) {
+        return saveBudgets(Collections.singletonList(budgetDto), userDetails);
+    }
+
+    // 한 달의 카테고리 예산 일괄 설정
+    public boolean saveMonthBudgets(YearMonth month, List<BudgetDto> budgetDtoList, UserDetailsImpl userDetails) {
+        for (BudgetDto budgetDto : budgetDtoList) {
+            budgetDto.setBudgetMonth(month.atDay(1).atStartOfDay());
+        }
+        return saveBudgets(budgetDtoList, userDetails);
+    }
+
+    // 예산 저장 (사용자, 카테고리, 월) 기준
+    // 조회 없이 여러 행 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 등록/수정하므로 동시 요청에도 중복 행이 생기지 않습니다.
+    public boolean saveBudgets(List<BudgetDto> budgetDtoList, UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
-        budgetDto.setUserId(userId);
+        if (budgetDtoList.isEmpty()) {
+            return true;
+        }
 
         try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-            Long categoryId = Long.valueOf(budgetDto.getCategoryId());
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다."));
-
-            Budget budget = budgetRepository.findByUserAndCategory(user, category); // budget 조회
-
-            if (budget == null) { // 만약 기존 budget 데이터가 없다면
-                budget = new Budget();
-                budget.setUser(user);
-                budget.setCategory(category); // budget에 카테고리와 userId를 추가
+            StringBuilder sql = new StringBuilder("INSERT INTO budget (id, category_id, budget_month, budget_money) VALUES ");
+            for (int i = 0; i < budgetDtoList.size(); i++) {
+                Long categoryId = budgetDtoList.get(i).getCategoryId();
+                if (categoryId == null || !referenceDataRegistry.findCategory(categoryId).isPresent()) {
+                    throw new RuntimeException("카테고리를 찾을 수 없습니다.");
+                }
+                sql.append(i > 0 ? ", " : "").append("(?, ?, ?, ?)");
             }
-
-            budget.setBudgetMoney(budgetDto.getBudgetMoney()); // budget에 돈을 추가
-            budget.setBudgetMonth(budgetDto.getBudgetMonth()); // budget에 달을 추가
-
-            budgetRepository.save(budget); // budget 저장
+            sql.append(" ON DUPLICATE KEY UPDATE budget_money = VALUES(budget_money)");
+
+            Query query = entityManager.createNativeQuery(sql.toString());
+            int position = 1;
+            for (BudgetDto budgetDto : budgetDtoList) {
+                budgetDto.setUserId(userId);
+                query.setParameter(position++, userId);
+                query.setParameter(position++, budgetDto.getCategoryId());
+                query.setParameter(position++, monthStartOf(budgetDto.getBudgetMonth()));
+                query.setParameter(position++, budgetDto.getBudgetMoney());
+            }
+            query.executeUpdate();
             return true;
         } catch (Exception e) {
             e.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
 
+    // 예산 달은 그 달 1일 00:00 으로 맞춤 (없으면 이번 달)
+    private LocalDateTime monthStartOf(LocalDateTime budgetMonth) {
+        YearMonth month = budgetMonth != null ? YearMonth.from(budgetMonth) : YearMonth.now();
+        return month.atDay(1).atStartOfDay();
+    }
+
 
     // 나의 예산 조회
+    @Transactional(readOnly = true)
     public List<BudgetDto> getBudgetWithCategoryNames(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         List<Budget> budgetList = budgetRepository.findByUserId(userId);
 
+        // 예산 달별 실제 지출 (월 x 카테고리 합계 테이블에서 키로 조회)
+        Set<YearMonth> budgetMonths = new HashSet<>();
+        for (Budget budget : budgetList) {
+            if (budget.getBudgetMonth() != null) {
+                budgetMonths.add(YearMonth.from(budget.getBudgetMonth()));
+            }
+        }
+        Map<YearMonth, Map<Long, Long>> spentSums = categorySpendService.getSums(userId, budgetMonths);
 
         List<BudgetDto> budgetDtoList = new ArrayList<>();
         for (Budget budget : budgetList) {
@@ -119,12 +155,40 @@ public class BudgetService {
             budgetDto.setBudgetMonth(budget.getBudgetMonth());
             budgetDto.setCategoryId(budget.getCategory().getCategoryId());
             budgetDto.setUserId(budget.getUser().getId());
-            String categoryName = categoryRepository.findByCategoryId(budget.getCategory().getCategoryId()).getCategoryName();
+            String categoryName = referenceDataRegistry.getCategoryName(budget.getCategory().getCategoryId());
             budgetDto.setCategoryName(categoryName);
+            if (budget.getBudgetMonth() != null) {
+                budgetDto.setSpentMoney(spentSums
+                        .getOrDefault(YearMonth.from(budget.getBudgetMonth()), Collections.emptyMap())
+                        .getOrDefault(budget.getCategory().getCategoryId(), 0L));
+            }
 
             budgetDtoList.add(budgetDto);
         }
 
         return budgetDtoList;
     }
-}
\ No newline at end of file
+
+    // 예산 대비 지출 조회 (month: yyyy-MM, 없으면 이번 달)
+    @Transactional(readOnly = true)
+    public List<BudgetStatusDto> getBudgetStatus(UserDetailsImpl userDetails, String month) {
+        Long userId = userDetails.getId();
+        YearMonth yearMonth = month != null && !month.isEmpty() ? YearMonth.parse(month) : YearMonth.now();
+
+        List<Map<String, Object>> rows = budgetRepository.findStatusByUserIdAndMonth(userId, yearMonth.toString(),
+                yearMonth.atDay(1).atStartOfDay(), yearMonth.plusMonths(1).atDay(1).atStartOfDay());
+
+        List<BudgetStatusDto> budgetStatusDtoList = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            Number percentUsed = (Number) row.get("percent_used");
+            budgetStatusDtoList.add(new BudgetStatusDto(
+                    ((Number) row.get("category_id")).longValue(),
+                    (String) row.get("category_name"),
+                    ((Number) row.get("budget_money")).longValue(),
+                    ((Number) row.get("spent_money")).longValue(),
+                    ((Number) row.get("remaining_money")).longValue(),
+                    percentUsed != null ? percentUsed.doubleValue() : null));
+        }
+        return budgetStatusDtoList;
+    }
+}
@@ -10,13 +10,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.*;
-import javax.transaction.Transactional;
 
 @Service
 @Transactional
@@ -29,10 +29,9 @@ public class CalendarService {
     private final UserRepository userRepository;
     private final IncomeRepository incomeRepository;
     private final ExpenseRepository expenseRepository;
-    private final CategoryRepository categoryRepository;
-    private final CategoryIncomeRepository categoryIncomeRepository;
     private final OAuthTokenRepository oAuthTokenRepository;
     private final ObjectMapper objectMapper;
+    private final LedgerService ledgerService;
 
     // event ID 생성기
     // 구글 캘린더 아이디 넣으면 중복없는 eventId값 하나 만들어줌
@@ -65,8 +64,7 @@ public class CalendarService {
         String calendarId = userDetails.getGoogleCalendarId();
 
         try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("존재하지 않는 유저입니다"));
+            User user = userRepository.getReferenceById(userId); // FK 만 필요하므로 SELECT 없이 참조만 사용
             Schedule schedule = new Schedule();
 
             // If Google Calendar is linked, proceed with Google API
@@ -106,7 +104,7 @@ public class CalendarService {
             schedule.setGoogleCalendarId(calendarId);
             schedule.setScName(scheduleDto.getName());
             schedule.setColor(scheduleDto.getColorId());
-            schedule.setScDate(scheduleDto.getDate());
+            schedule.setScDate(LocalDate.parse(scheduleDto.getDate()));
             schedule.setScBudget(scheduleDto.getBudget());
 
             scheduleRepository.save(schedule);
@@ -167,7 +165,7 @@ public class CalendarService {
             schedule.setColor(scheduleDto.getColorId());
             schedule.setScName(scheduleDto.getName());
             schedule.setScBudget(scheduleDto.getBudget());
-            schedule.setScDate(scheduleDto.getDate());
+            schedule.setScDate(LocalDate.parse(scheduleDto.getDate()));
 
             scheduleRepository.save(schedule);
 
@@ -266,7 +264,7 @@ public class CalendarService {
                         String endDateTime = getDateTimeValue(itemJson, "end");
                         System.out.println("start : " + startDateTime);
                         System.out.println("end : " + endDateTime);
-                        schedule.setScDate(startDateTime);
+                        schedule.setScDate(LocalDate.parse(startDateTime.substring(0, 10)));
 
                         scheduleRepository.save(schedule);
                     }
@@ -315,14 +313,13 @@ public class CalendarService {
         try {
             Long userId = userDetails.getId();
             workDto.setUserId(userId);
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            User user = userRepository.getReferenceById(userId); // FK 만 필요하므로 SELECT 없이 참조만 사용
 
             Work work = new Work();
             work.setUser(user);
             work.setWorkName(workDto.getWorkName());
             work.setColor(workDto.getColor());
-            work.setWorkDate(workDto.getWorkDate());
+            work.setWorkDate(LocalDate.parse(workDto.getWorkDate()));
             work.setWorkPay(workDto.getWorkPay());
             work.setWorkPayday(workDto.getWorkPayday());
 
@@ -341,6 +338,7 @@ public class CalendarService {
 
     // ===========================================================================
     // 캘린더 전체 일정 조회 - 달력
+    @Transactional(readOnly = true)
     public List<ScheduleDto> getScheduleForCal(UserDetailsImpl userDetails) {
         getGoogleCalendarEvents(userDetails);
         Long userId = userDetails.getId();
@@ -352,7 +350,7 @@ public class CalendarService {
 
             // 조회 내용 : 일정 날짜, 일정 이름, 일정 색
             scheduleDto.setName(schedule.getScName());
-            scheduleDto.setDate(schedule.getScDate());
+            scheduleDto.setDate(Objects.toString(schedule.getScDate(), null));
             scheduleDto.setBudget(schedule.getScBudget());
             scheduleDto.setColorId(schedule.getColor());
 
@@ -363,6 +361,7 @@ public class CalendarService {
 
 
     // 캘린더 전체 근무 조회 - 달력
+    @Transactional(readOnly = true)
     public List<WorkDto> getWorkForCal(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         List<Work> workList = workRepository.findByUserId(userId);
@@ -372,67 +371,30 @@ public class CalendarService {
             WorkDto workDto = new WorkDto();
 
             // 조회 내용 :  근무 날짜, 근무 이름, 급여일, 근무 color, 급여
-            work.setWorkName(workDto.getWorkName());
-            work.setColor(workDto.getColor());
-            work.setWorkDate(workDto.getWorkDate());
-            work.setWorkPay(workDto.getWorkPay());
-            work.setWorkPayday(workDto.getWorkPayday());
+            workDto.setWorkName(work.getWorkName());
+            workDto.setColor(work.getColor());
+            workDto.setWorkDate(Objects.toString(work.getWorkDate(), null));
+            workDto.setWorkPay(work.getWorkPay());
+            workDto.setWorkPayday(work.getWorkPayday());
 
             workDtoList.add(workDto);
         }
         return workDtoList;
     }
 
-    // 캘린더 전체 수입 합계 (daily Income) - 날짜, 수입 합계
+    // 캘린더 전체 수입 합계 (daily Income) - 날짜, 수입 합계 (가계부와 같은 일별 합계)
     public Map<String, Integer> getDailyIncome(UserDetailsImpl userDetails) {
-        Long userId = userDetails.getId();
-
-        List<Income> incomeList = incomeRepository.findByUserId(userId);
-
-        Map<String, Integer> dailyIncomeList = new LinkedHashMap<>();
-
-        for (Income income : incomeList) {
-            String incomeDate = income.getIncomeDate();
-            int incomeAmount = income.getIncomeAmount();
-
-            // 이미 해당 날짜의 합계가 계산되었는지 확인
-            if (dailyIncomeList.containsKey(incomeDate)) {
-                int currentTotal = dailyIncomeList.get(incomeDate);
-                dailyIncomeList.put(incomeDate, currentTotal + incomeAmount);
-            } else {
-                dailyIncomeList.put(incomeDate, incomeAmount);
-            }
-        }
-
-        return dailyIncomeList;
+        return ledgerService.getDailyIncome(userDetails);
     }
 
     // 캘린더 전체 지출 합계 (daily Expense) - 날짜, 지출 합계
     public Map<String, Integer> getDailyExpense(UserDetailsImpl userDetails) {
-        Long userId = userDetails.getId();
-
-        List<Expense> expenseList = expenseRepository.findByUserId(userId);
-
-        Map<String, Integer> dailyExpenseList = new LinkedHashMap<>();
-
-        for (Expense expense : expenseList) {
-            String expenseDate = expense.getExpenseDate();
-            int expenseAmount = expense.getExpenseAmount();
-
-            // 이미 해당 날짜의 합계가 계산되었는지 확인
-            if (dailyExpenseList.containsKey(expenseDate)) {
-                int currentTotal = dailyExpenseList.get(expenseDate);
-                dailyExpenseList.put(expenseDate, currentTotal + expenseAmount);
-            } else {
-                dailyExpenseList.put(expenseDate, expenseAmount);
-            }
-        }
-
-        return dailyExpenseList;
+        return ledgerService.getDailyExpense(userDetails);
     }
 
 
     // 캘린더 전체 일정 조회 - 일별 상세
+    @Transactional(readOnly = true)
     public List<ScheduleDto> getScheduleForDetail(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         List<Schedule> scheduleList = scheduleRepository.findByUserId(userId);
@@ -442,7 +404,7 @@ public class CalendarService {
             ScheduleDto scheduleDto = new ScheduleDto();
 
             // 조회 내용 : 일정 날짜, 일정 이름, 일정 색, 일정 예산
-            scheduleDto.setDate(schedule.getScDate());
+            scheduleDto.setDate(Objects.toString(schedule.getScDate(), null));
             scheduleDto.setName(schedule.getScName());
             scheduleDto.setColorId(schedule.getColor());
             scheduleDto.setBudget(schedule.getScBudget());
@@ -453,6 +415,7 @@ public class CalendarService {
     }
 
     // 캘린더 전체 근무 조회 - 일별 상세
+    @Transactional(readOnly = true)
     public List<WorkDto> getWorkForDetail(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         List<Work> workList = workRepository.findByUserId(userId);
@@ -464,10 +427,9 @@ public class CalendarService {
             // 조회 내용 :  근무 날짜, 근무 이름, 근무 시간(시작, 종료), 급여일, 근무 color, 급여
             workDto.setWorkName(work.getWorkName());
             workDto.setColor(work.getColor());
-            workDto.setWorkDate(work.getWorkDate());
+            workDto.setWorkDate(Objects.toString(work.getWorkDate(), null));
             workDto.setWorkStart(work.getWorkStart());
             workDto.setWorkEnd(work.getWorkEnd());
-            workDto.setWorkDate(work.getWorkDate());
             workDto.setWorkPay(work.getWorkPay());
 
             workDtoList.add(workDto);
@@ -476,52 +438,22 @@ public class CalendarService {
     }
 
     // 캘린더 전체 수입 detail (daily Income) - 날짜, 개별 수입 내역
+    @Transactional(readOnly = true)
     public List<IncomeDto> getIncomeWithCategory(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         log.info("시용자 아이디 : " + userId);
-        List<Income> incomeList = incomeRepository.findByUserId(userId);
-
-        List<IncomeDto> incomeDtoList = new ArrayList<>();
-        for (Income income : incomeList) {
-            IncomeDto incomeDto = new IncomeDto();
-            incomeDto.setIncomeId(income.getIncomeId());
-            incomeDto.setIncomeAmount(income.getIncomeAmount());
-            incomeDto.setIncomeDate(income.getIncomeDate());
-            incomeDto.setIncomeContent(income.getIncomeContent());
-            incomeDto.setCategoryIncomeId(income.getCategoryIncome().getCategoryIncomeId());
-            incomeDto.setUserId(income.getUser().getId());
-
-            String categoryIncomeName = categoryIncomeRepository.findByCategoryIncomeId(income.getCategoryIncome().getCategoryIncomeId()).getCategoryIncomeName();
-            incomeDto.setCategoryIncomeName(categoryIncomeName);
-
-            incomeDtoList.add(incomeDto);
-        }
 
-        return incomeDtoList;
+        // 카테고리는 JOIN 으로 함께 조회 (쿼리 1번)
+        return incomeRepository.findWithCategoryByUserId(userId);
     }
 
     // 캘린더 전체 지출 detail (daily Expense) - 날짜, 개별 지출 내역
+    @Transactional(readOnly = true)
     public List<ExpenseDto> getExpenseWithCategory(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         log.info("지출 사용자 아이디 : " + userId);
-        List<Expense> expenseList = expenseRepository.findByUserId(userId);
-
-        List<ExpenseDto> expenseDtoList = new ArrayList<>();
-        for (Expense expense : expenseList) {
-            ExpenseDto expenseDto = new ExpenseDto();
-            expenseDto.setExpenseId(expense.getExpenseId());
-            expenseDto.setExpenseAmount(expense.getExpenseAmount());
-            expenseDto.setExpenseDate(expense.getExpenseDate());
-            expenseDto.setExpenseContent(expense.getExpenseContent());
-            expenseDto.setCategoryId(expense.getCategory().getCategoryId());
-            expenseDto.setUserId(expense.getUser().getId());
-
-            String categoryName = categoryRepository.findByCategoryId(expense.getCategory().getCategoryId()).getCategoryName();
-            expenseDto.setCategoryName(categoryName);
-
-            expenseDtoList.add(expenseDto);
-        }
 
-        return expenseDtoList;
+        // 카테고리는 JOIN 으로 함께 조회 (쿼리 1번)
+        return expenseRepository.findWithCategoryByUserId(userId);
     }
 }
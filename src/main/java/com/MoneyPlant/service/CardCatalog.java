@@ -0,0 +1,191 @@
+package com.MoneyPlant.service;
+
+import com.MoneyPlant.dto.CardDto;
+import com.MoneyPlant.dto.CardScoreDto;
+import com.MoneyPlant.entity.CardCatalogVersion;
+import com.MoneyPlant.entity.CardList;
+import com.MoneyPlant.repository.CardCatalogVersionRepository;
+import com.MoneyPlant.repository.CardRepository;
+import com.MoneyPlant.service.recommend.CardScoringIndex;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 카드 목록(card_list) 메모리 색인
+// 카드 목록은 하루 한 번 크롤링으로만 바뀌므로 크롤링이 끝날 때마다 전체를 다시 읽어 불변 스냅샷을 통째로 교체합니다.
+// 스냅샷을 교체하면 이전 카드 목록으로 계산한 카드 추천 캐시도 비웁니다.
+// 추천 조회는 card_list 를 읽지 않고 스냅샷에서만 답합니다. 혜택 문구 해석(CardScoringIndex)도 교체 시 한 번만 합니다.
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CardCatalog {
+    private static final long REFRESH_MINUTES = 10;
+
+    private final CardRepository cardRepository;
+    private final CardCatalogVersionRepository cardCatalogVersionRepository;
+    private final LedgerStatisticsCache ledgerStatisticsCache;
+
+    private volatile Snapshot snapshot;
+
+    // 크롤링 직후 다시 읽으므로 replica 가 아닌 primary(쓰기 트랜잭션)에서 읽음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public synchronized void reload() {
+        swap(loadSnapshot());
+        log.info("카드 목록 색인 완료 - 변경 번호: {}, 카드 행 수: {}, 카테고리 수: {}, 추천 대상 카드 수: {}",
+                snapshot.version, snapshot.cards.size(), snapshot.cardsByCategory.keySet().size(), snapshot.scoringIndex.size());
+    }
+
+    // 여러 서버로 운영할 때 크롤링은 한 서버에서만 실행되므로, 나머지 서버는 변경 번호만 주기적으로 확인해서 따라감
+    // (크롤링한 서버는 reload 에서 이미 새 번호로 읽었으므로 다시 읽지 않음)
+    @Scheduled(initialDelay = REFRESH_MINUTES, fixedDelay = REFRESH_MINUTES, timeUnit = TimeUnit.MINUTES)
+    @Transactional
+    public synchronized void refresh() {
+        Snapshot current = snapshot;
+        if (current != null && Objects.equals(current.version, currentVersion())) {
+            return;
+        }
+        swap(loadSnapshot());
+        log.info("카드 목록 색인 갱신 - 변경 번호: {}, 카드 행 수: {}", snapshot.version, snapshot.cards.size());
+    }
+
+    // 카테고리의 첫 번째 카드 (card_id 순, 없으면 null)
+    public Map<String, Object> findFirstCard(String categoryName) {
+        ImmutableList<CardDto> cards = snapshot().cardsByCategory.get(categoryName);
+        if (cards.isEmpty()) {
+            return null;
+        }
+        CardDto card = cards.get(0);
+        Map<String, Object> cardDetail = new LinkedHashMap<>();
+        cardDetail.put("cardId", card.getCardId());
+        cardDetail.put("cardName", card.getCardName());
+        cardDetail.put("cardCategory", card.getCardCategory());
+        cardDetail.put("cardDesc", card.getCardDesc());
+        cardDetail.put("cardImg", card.getCardImg());
+        cardDetail.put("cardLink", card.getCardLink());
+        return cardDetail;
+    }
+
+    // 주어진 카테고리 중 두 곳 이상에 등록된 카드 (카테고리별 혜택 설명을 합쳐서 반환)
+    public List<CardDto> findCardsInCategories(Collection<String> categoryNames) {
+        Snapshot current = snapshot();
+        Set<String> categories = new HashSet<>(categoryNames);
+
+        Map<String, Integer> rowCounts = new HashMap<>();
+        for (String category : categories) {
+            for (CardDto card : current.cardsByCategory.get(category)) {
+                rowCounts.merge(card.getCardName(), 1, Integer::sum);
+            }
+        }
+
+        List<CardDto> cardDtoList = new ArrayList<>();
+        for (String cardName : current.cardsByName.keySet()) {
+            if (rowCounts.getOrDefault(cardName, 0) < 2) {
+                continue;
+            }
+            List<CardDto> rows = new ArrayList<>();
+            for (CardDto card : current.cardsByName.get(cardName)) {
+                if (categories.contains(card.getCardCategory())) {
+                    rows.add(card);
+                }
+            }
+            cardDtoList.add(merge(rows));
+        }
+        return cardDtoList;
+    }
+
+    // 카드 이름 하나에 카테고리별 혜택 설명 목록
+    private CardDto merge(List<CardDto> rows) {
+        CardDto mergedCardDto = new CardDto();
+        mergedCardDto.setCardName(rows.get(0).getCardName());
+        mergedCardDto.setCardImg(rows.get(0).getCardImg());
+        mergedCardDto.setCardLink(rows.get(0).getCardLink());
+
+        List<String> cardDescList = new ArrayList<>();
+        for (CardDto row : rows) {
+            cardDescList.add(row.getCardDesc());
+        }
+        mergedCardDto.setCardDescList(cardDescList);
+        return mergedCardDto;
+    }
+
+    // 월 지출(카테고리 이름 -> 금액) 기준 순혜택 상위 카드
+    public List<CardScoreDto> findBestCards(Map<String, Long> monthlySpend, int limit) {
+        return snapshot().scoringIndex.topK(monthlySpend, limit);
+    }
+
+    // 시작 이벤트 전에 호출되면 그 자리에서 로딩
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = loadSnapshot();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private void swap(Snapshot newSnapshot) {
+        snapshot = newSnapshot;
+        ledgerStatisticsCache.invalidateAll(); // 카드 추천 결과 갱신
+    }
+
+    private Long currentVersion() {
+        return cardCatalogVersionRepository.findVersion(CardCatalogVersion.CARD_LIST);
+    }
+
+    // 변경 번호를 먼저 읽으므로, 읽는 도중 반영된 크롤링 결과는 다음 refresh 에서 다시 읽힘
+    private Snapshot loadSnapshot() {
+        Long version = currentVersion();
+        ImmutableList.Builder<CardDto> cards = ImmutableList.builder();
+        ImmutableListMultimap.Builder<String, CardDto> cardsByCategory = ImmutableListMultimap.builder();
+        ImmutableListMultimap.Builder<String, CardDto> cardsByName = ImmutableListMultimap.builder();
+        for (CardList cardList : cardRepository.findAll(Sort.by("cardId"))) {
+            CardDto card = cardList.toCardDto();
+            cards.add(card);
+            if (card.getCardCategory() != null) {
+                cardsByCategory.put(card.getCardCategory(), card);
+            }
+            if (card.getCardName() != null) {
+                cardsByName.put(card.getCardName(), card);
+            }
+        }
+        ImmutableList<CardDto> cardRows = cards.build();
+        return new Snapshot(version, cardRows, cardsByCategory.build(), cardsByName.build(), CardScoringIndex.build(cardRows));
+    }
+
+    // 한 번 만들면 바뀌지 않는 카드 목록 (색인 안의 CardDto 는 밖으로 그대로 내보내지 않음)
+    private static final class Snapshot {
+        private final Long version; // card_catalog_version (아직 크롤링 결과가 없으면 null)
+        private final ImmutableList<CardDto> cards;
+        private final ImmutableListMultimap<String, CardDto> cardsByCategory;
+        private final ImmutableListMultimap<String, CardDto> cardsByName;
+        private final CardScoringIndex scoringIndex;
+
+        private Snapshot(Long version,
+                         ImmutableList<CardDto> cards,
+                         ImmutableListMultimap<String, CardDto> cardsByCategory,
+                         ImmutableListMultimap<String, CardDto> cardsByName,
+                         CardScoringIndex scoringIndex) {
+            this.version = version;
+            this.cards = cards;
+            this.cardsByCategory = cardsByCategory;
+            this.cardsByName = cardsByName;
+            this.scoringIndex = scoringIndex;
+        }
+    }
+}
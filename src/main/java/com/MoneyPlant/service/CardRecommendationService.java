@@ -0,0 +1,189 @@
+package com.MoneyPlant.service;
+
+import com.MoneyPlant.dto.CardDto;
+import com.MoneyPlant.entity.CategorySpend;
+import com.MoneyPlant.repository.CardRecommendationRepository;
+import com.MoneyPlant.repository.CategorySpendRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+// 카드 추천 결과 일괄 계산 (card_recommendation)
+// 카드 크롤링이 끝나면 이번 달 지출 기록이 있는 사용자를 CHUNK_SIZE 명씩 id 순으로 읽어
+// 크기가 제한된 ForkJoinPool 에서 병렬로 계산하고, 청크마다 여러 행 INSERT 한 번으로 저장합니다.
+// 계산에 쓴 category_spend 상태를 저장 직전에 잠금 조회로 다시 확인해서, 그 사이 지출이 바뀐 사용자는 저장하지 않습니다.
+// (지출이 바뀔 때 지운 추천 결과를 이전 지출 기준 결과로 다시 덮어쓰지 않도록)
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CardRecommendationService {
+    public static final int TOP_CATEGORY_COUNT = 3;
+    private static final int CHUNK_SIZE = 200;
+    private static final int PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    private static final TypeReference<List<CardDto>> CARD_LIST_TYPE = new TypeReference<List<CardDto>>() {};
+
+    private final CardRecommendationRepository cardRecommendationRepository;
+    private final CategorySpendRepository categorySpendRepository;
+    private final CategorySpendService categorySpendService;
+    private final CardCatalog cardCatalog;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 미리 계산된 이번 달 추천 결과 (없으면 빈 값 -> 호출한 쪽에서 바로 계산)
+    @Transactional(readOnly = true)
+    public Optional<List<CardDto>> findPrecomputed(Long userId, YearMonth month) {
+        return cardRecommendationRepository.findByUserIdAndRecommendMonth(userId, month.toString())
+                .map(cardRecommendation -> {
+                    try {
+                        return objectMapper.readValue(cardRecommendation.getCardJson(), CARD_LIST_TYPE);
+                    } catch (JsonProcessingException e) {
+                        log.warn("카드 추천 결과를 읽지 못했습니다 - userId: {}", userId, e);
+                        return null;
+                    }
+                });
+    }
+
+    // 전체 사용자 추천 결과 계산 (카드 목록 색인이 교체된 뒤 호출)
+    public void precomputeAll() {
+        String recommendMonth = YearMonth.now().toString();
+        LocalDateTime computedAt = LocalDateTime.now();
+        long startedAt = System.currentTimeMillis();
+        int savedUsers = 0;
+        int skippedUsers = 0;
+        int failedUsers = 0;
+
+        ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+        try {
+            Long lastUserId = 0L;
+            while (true) {
+                List<Long> userIds = categorySpendRepository.findUserIdsBySpendMonth(recommendMonth, lastUserId,
+                        PageRequest.of(0, CHUNK_SIZE));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                lastUserId = userIds.get(userIds.size() - 1);
+
+                try {
+                    List<CategorySpend> categorySpends =
+                            categorySpendRepository.findByUserIdInAndSpendMonth(userIds, recommendMonth);
+                    Map<Long, String> spendStates = spendStates(userIds, categorySpends);
+                    Map<Long, String> cardJsons = computeChunk(pool, userIds, categorySpends);
+                    int saved = transactionTemplate.execute(status ->
+                            saveChunk(cardJsons, spendStates, recommendMonth, computedAt));
+                    savedUsers += saved;
+                    skippedUsers += cardJsons.size() - saved;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("카드 추천 일괄 계산이 중단되었습니다 - 마지막 userId: {}", lastUserId);
+                    return;
+                } catch (Exception e) {
+                    failedUsers += userIds.size();
+                    log.error("카드 추천 청크 계산 실패 - userId {}~{}", userIds.get(0), lastUserId, e);
+                }
+            }
+
+            // 이번 달이 아닌 결과는 더 이상 조회되지 않으므로 정리
+            transactionTemplate.executeWithoutResult(status ->
+                    cardRecommendationRepository.deleteByRecommendMonthNot(recommendMonth));
+        } finally {
+            pool.shutdown();
+        }
+
+        log.info("카드 추천 일괄 계산 완료 - 월: {}, 저장: {}명, 계산 중 지출 변경으로 건너뜀: {}명, 실패: {}명, {}ms",
+                recommendMonth, savedUsers, skippedUsers, failedUsers, System.currentTimeMillis() - startedAt);
+    }
+
+    // 한 청크의 추천 결과 JSON (사용자 id -> JSON)
+    // 지출 조회는 청크당 한 번, 카드 매칭은 메모리 색인만 쓰므로 병렬 작업 안에서는 DB 를 사용하지 않습니다.
+    private Map<Long, String> computeChunk(ForkJoinPool pool, List<Long> userIds, List<CategorySpend> categorySpends)
+            throws InterruptedException, ExecutionException {
+        Map<Long, List<String>> categoryNamesByUser =
+                categorySpendService.getTopCategoryNames(userIds, categorySpends, TOP_CATEGORY_COUNT);
+
+        return pool.submit(() -> categoryNamesByUser.entrySet().parallelStream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> toJson(
+                        cardCatalog.findCardsInCategories(entry.getValue()))))).get();
+    }
+
+    private String toJson(List<CardDto> cardDtoList) {
+        try {
+            return objectMapper.writeValueAsString(cardDtoList);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 사용자별 한 달 카테고리 지출 상태 ("카테고리 id:합계:횟수" 를 카테고리 id 순으로 이어 붙임, 행이 없으면 빈 문자열)
+    private static Map<Long, String> spendStates(Collection<Long> userIds, List<CategorySpend> categorySpends) {
+        Map<Long, TreeMap<Long, String>> rowsByUser = new HashMap<>();
+        for (Long userId : userIds) {
+            rowsByUser.put(userId, new TreeMap<>());
+        }
+        for (CategorySpend categorySpend : categorySpends) {
+            rowsByUser.get(categorySpend.getUser().getId()).put(categorySpend.getCategory().getCategoryId(),
+                    categorySpend.getExpenseSum() + ":" + categorySpend.getExpenseCount());
+        }
+        Map<Long, String> spendStates = new HashMap<>();
+        for (Map.Entry<Long, TreeMap<Long, String>> entry : rowsByUser.entrySet()) {
+            StringBuilder state = new StringBuilder();
+            entry.getValue().forEach((categoryId, totals) -> state.append(categoryId).append(':').append(totals).append(';'));
+            spendStates.put(entry.getKey(), state.toString());
+        }
+        return spendStates;
+    }
+
+    // 청크 저장 (사용자, 월) 키 기준 INSERT ... ON DUPLICATE KEY UPDATE 한 번, 저장한 사용자 수 반환
+    // category_spend 를 잠그고 다시 읽어 계산 때와 상태가 같은 사용자만 저장합니다.
+    // 잠금은 트랜잭션 끝까지 유지되므로, 이후 들어온 지출 반영은 저장이 끝난 뒤 추천 결과를 지웁니다.
+    private int saveChunk(Map<Long, String> cardJsons, Map<Long, String> spendStates,
+                          String recommendMonth, LocalDateTime computedAt) {
+        if (cardJsons.isEmpty()) {
+            return 0;
+        }
+        Map<Long, String> currentStates = spendStates(cardJsons.keySet(),
+                categorySpendRepository.findForUpdate(cardJsons.keySet(), recommendMonth));
+        Map<Long, String> unchanged = new LinkedHashMap<>();
+        for (Map.Entry<Long, String> entry : cardJsons.entrySet()) {
+            if (Objects.equals(spendStates.get(entry.getKey()), currentStates.get(entry.getKey()))) {
+                unchanged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (unchanged.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO card_recommendation (id, recommend_month, card_json, computed_at) VALUES ");
+        for (int i = 0; i < unchanged.size(); i++) {
+            sql.append(i > 0 ? ", " : "").append("(?, ?, ?, ?)");
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE card_json = VALUES(card_json), computed_at = VALUES(computed_at)");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (Map.Entry<Long, String> entry : unchanged.entrySet()) {
+            query.setParameter(position++, entry.getKey());
+            query.setParameter(position++, recommendMonth);
+            query.setParameter(position++, entry.getValue());
+            query.setParameter(position++, computedAt);
+        }
+        query.executeUpdate();
+        return unchanged.size();
+    }
+}
@@ -1,20 +1,21 @@
 package com.MoneyPlant.service;
 
+import com.MoneyPlant.constant.ECrawlTrigger;
 import com.MoneyPlant.dto.CardDto;
-import com.MoneyPlant.repository.CardRepository;
-import com.MoneyPlant.repository.ExpenseRepository;
+import com.MoneyPlant.dto.CardScoreDto;
+import com.MoneyPlant.service.crawler.CardCrawlJob;
 import com.MoneyPlant.service.jwt.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.annotation.PostConstruct;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.time.YearMonth;
+import java.util.*;
 
 
 @Service
@@ -22,111 +23,109 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class CardService {
 
-    private boolean isFirstExecution = true;
-    private final CardRepository cardRepository;
-    private final ExpenseRepository expenseRepository;
+    private static final int SPEND_MONTHS = 3;
 
+    private final CardCrawlJob cardCrawlJob;
+    private final CardCatalog cardCatalog;
+    private final CardRecommendationService cardRecommendationService;
+    private final CategorySpendService categorySpendService;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final LedgerStatisticsCache ledgerStatisticsCache;
 
-    @PostConstruct
+    // 서버 시작 시 크롤링 여부 (테스트에서는 false 로 실제 사이트에 접속하지 않음)
+    @Value("${app.card-crawler.run-on-startup:true}")
+    private boolean crawlOnStartup;
+
+
+    // 서버 시작이 크롤링을 기다리지 않도록 시작이 끝난 뒤 백그라운드 작업으로 실행
+    @EventListener(ApplicationReadyEvent.class)
     public void executeCardCrawlerOnStartup() {
-        if (isFirstExecution) {
-            executeCardCrawler();
-            isFirstExecution = false;
+        if (!crawlOnStartup) {
+            log.info("서버 시작 시 카드 크롤링 건너뜀 (app.card-crawler.run-on-startup=false)");
+            return;
         }
+        cardCrawlJob.start(ECrawlTrigger.STARTUP);
     }
 
+    // 모든 서버에서 호출되지만 job_lease 실행권을 얻은 한 서버에서만 실행됨
     @Scheduled(cron = "0 0 4 * * ?", zone = "Asia/Seoul") // 매일 새벽 4시에 실행, 1분마다 실행은 cron = "0 */1 * * * ?"
     public void executeCardCrawlerScheduled() {
-        executeCardCrawler();
-    }
-
-    @Transactional
-    private void executeCardCrawler() {
-        try {
-            cardRepository.deleteAll(); // card_list의 모든 데이터를 삭제합니다.
-            String pythonScriptPath = "../../src/main/resources/python/CardCrolling.py";
-            ProcessBuilder processBuilder = new ProcessBuilder("python", pythonScriptPath);
-            Process process = processBuilder.start();
-            int exitCode = process.waitFor();
-            if (exitCode == 0) {
-                log.info("CardCrolling.py 실행이 성공했습니다.");
-                cardRepository.deleteByCardName("신용카드");
-                cardRepository.deleteByCardName("이벤트카드");
-            } else {
-                log.error("CardCrolling.py 실행이 실패했습니다. 종료 코드: " + exitCode);
-            }
-        } catch (InterruptedException | IOException e) {
-            throw new RuntimeException(e);
-        }
+        cardCrawlJob.start(ECrawlTrigger.SCHEDULED);
     }
 
 
+    // 카드 추천은 card_list 를 조회하지 않고 메모리 색인(CardCatalog)에서 찾음
+    @Transactional(readOnly = true)
     public List<Map<?,?>> manyTop3CardList(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
-        List<Map<?, ?>> result = expenseRepository.findTop3CategoriesByUserAndCurrentMonth(userId);
-        List<String> categoryNameList = new ArrayList<>();
+        YearMonth currentMonth = YearMonth.now();
+        List<String> categoryNameList = categorySpendService.getTopCategoryNames(userId, currentMonth, 3);
         List<Map<?,?>> categoryTop1CardList = new ArrayList<>();
 
-        for (Map<?, ?> map : result) {
-            String categoryName = (String) map.get("categoryName");
-            categoryNameList.add(categoryName);
-        }
-
         for (String categoryName : categoryNameList) {
-            Map<?,?> categoryCardDetail = cardRepository.findTop1CardByCategory(categoryName);
+            Map<?,?> categoryCardDetail = cardCatalog.findFirstCard(categoryName);
             categoryTop1CardList.add(categoryCardDetail);
         }
 
         return categoryTop1CardList;
     }
 
+    @Transactional(readOnly = true)
     public List<CardDto> manyExpenseTop3Category(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
-        List<Map<?, ?>> result = expenseRepository.findTop3CategoriesByUserAndCurrentMonth(userId);
-        List<String> categoryNameList = new ArrayList<>();
+        YearMonth currentMonth = YearMonth.now();
 
-        for (Map<?, ?> map : result) {
-            String categoryName = (String) map.get("categoryName");
-            System.out.println(categoryName);
-            categoryNameList.add(categoryName);
+        // 크롤링 직후 미리 계산된 결과가 있으면 (사용자, 월) 키로 한 행만 읽음
+        Optional<List<CardDto>> precomputed = cardRecommendationService.findPrecomputed(userId, currentMonth);
+        if (precomputed.isPresent()) {
+            return precomputed.get();
         }
-        List<CardDto> findCardList = findDuplicateCardNamesByCategories(categoryNameList);
-        return findCardList;
-    }
-
 
-    public List<CardDto> findDuplicateCardNamesByCategories(List<String> categoryNames) {
-        List<Object[]> duplicateCards = cardRepository.findDuplicateCardNamesByCategories(categoryNames);
-        List<String> duplicateCardNames = new ArrayList<>();
-        List<CardDto> cardDtoList = new ArrayList<>();
+        // 마지막 일괄 계산 이후 가입했거나 이번 달 첫 지출인 사용자는 바로 계산
+        // 이번 달 지출이 바뀌거나 카드 목록이 갱신되기 전까지는 캐시된 추천 결과 사용
+        return ledgerStatisticsCache.get(userId, "manyExpenseTop3Category:" + currentMonth, () -> {
+            List<String> categoryNameList = categorySpendService.getTopCategoryNames(userId, currentMonth,
+                    CardRecommendationService.TOP_CATEGORY_COUNT);
+            List<CardDto> findCardList = findDuplicateCardNamesByCategories(categoryNameList);
+            return findCardList;
+        });
+    }
 
-        for (Object[] result : duplicateCards) {
-            String cardName = (String) result[0];
-            duplicateCardNames.add(cardName);
+    // 최근 SPEND_MONTHS 개월 평균 카테고리별 지출로 전체 카드의 순혜택을 계산해 상위 limit 개 추천
+    @Transactional(readOnly = true)
+    public List<CardScoreDto> recommendBySpend(UserDetailsImpl userDetails, int limit) {
+        Long userId = userDetails.getId();
+        YearMonth currentMonth = YearMonth.now();
+        List<YearMonth> months = new ArrayList<>();
+        for (int i = 0; i < SPEND_MONTHS; i++) {
+            months.add(currentMonth.minusMonths(i));
         }
 
-        for (String cardName : duplicateCardNames) {
-            List<CardDto> cardDtos = cardRepository.findByCardNameAndCardCategoryIn(cardName, categoryNames);
-            CardDto mergedCardDto = mergeCardDto(cardDtos);
-            cardDtoList.add(mergedCardDto);
+        Map<YearMonth, Map<Long, Long>> sums = categorySpendService.getSums(userId, months);
+        Map<String, Long> monthlySpend = new HashMap<>();
+        int recordedMonths = 0;
+        for (Map<Long, Long> monthSums : sums.values()) {
+            boolean spent = false;
+            for (Map.Entry<Long, Long> entry : monthSums.entrySet()) {
+                if (entry.getValue() > 0) {
+                    monthlySpend.merge(referenceDataRegistry.getCategoryName(entry.getKey()), entry.getValue(), Long::sum);
+                    spent = true;
+                }
+            }
+            if (spent) {
+                recordedMonths++;
+            }
         }
+        // 실제 지출이 있는 달 수로 나눠 월 평균 (가입한 지 얼마 안 된 사용자도 실제 월 지출 규모로 계산)
+        // 지출을 모두 삭제한 달은 합계 행이 0 으로 남아 있으므로 달 수에 넣지 않습니다.
+        int spentMonths = Math.max(1, recordedMonths);
+        monthlySpend.replaceAll((categoryName, sum) -> sum / spentMonths);
 
-        return cardDtoList;
+        return cardCatalog.findBestCards(monthlySpend, limit);
     }
 
-    private CardDto mergeCardDto(List<CardDto> cardDtos) {
-        CardDto mergedCardDto = new CardDto();
-        mergedCardDto.setCardName(cardDtos.get(0).getCardName());
-        mergedCardDto.setCardImg(cardDtos.get(0).getCardImg());
-        mergedCardDto.setCardLink(cardDtos.get(0).getCardLink());
-
-        List<String> cardDescList = new ArrayList<>();
-        for (CardDto cardDto : cardDtos) {
-            cardDescList.add(cardDto.getCardDesc());
-        }
-        mergedCardDto.setCardDescList(cardDescList);
-
-        return mergedCardDto;
+    public List<CardDto> findDuplicateCardNamesByCategories(List<String> categoryNames) {
+        return cardCatalog.findCardsInCategories(categoryNames);
     }
 
 }
@@ -0,0 +1,105 @@
+package com.MoneyPlant.service;
+
+import com.MoneyPlant.dto.CategorySpendDto;
+import com.MoneyPlant.entity.CategorySpend;
+import com.MoneyPlant.repository.CategorySpendRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.*;
+
+// 월 x 카테고리 지출 합계(category_spend) 조회
+// 원본 지출을 다시 합산하지 않고 (사용자, 월) 키로 카테고리 수만큼의 행만 읽습니다.
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class CategorySpendService {
+    // 지출 횟수 많은 순, 같으면 금액 큰 순, 카테고리 id 순
+    private static final Comparator<CategorySpendDto> BY_COUNT_DESC =
+            Comparator.comparingInt(CategorySpendDto::getExpenseCount).reversed()
+                    .thenComparing(Comparator.comparingLong(CategorySpendDto::getExpenseSum).reversed())
+                    .thenComparing(CategorySpendDto::getCategoryId);
+
+    private final CategorySpendRepository categorySpendRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    // 한 달의 카테고리별 지출 (금액 큰 순)
+    public List<CategorySpendDto> getMonth(Long userId, YearMonth month) {
+        List<CategorySpendDto> categorySpendDtoList = new ArrayList<>();
+        for (CategorySpend categorySpend : categorySpendRepository.findByUserIdAndSpendMonth(userId, month.toString())) {
+            if (categorySpend.getExpenseCount() > 0) {
+                categorySpendDtoList.add(toDto(categorySpend));
+            }
+        }
+        categorySpendDtoList.sort(Comparator.comparingLong(CategorySpendDto::getExpenseSum).reversed()
+                .thenComparing(CategorySpendDto::getCategoryId));
+        return categorySpendDtoList;
+    }
+
+    // 지출 횟수 상위 limit 개 카테고리 이름
+    public List<String> getTopCategoryNames(Long userId, YearMonth month, int limit) {
+        return topCategoryNames(getMonth(userId, month), limit);
+    }
+
+    // 여러 사용자의 지출 횟수 상위 limit 개 카테고리 이름 (사용자 id -> 카테고리 이름)
+    // categorySpends : findByUserIdInAndSpendMonth 로 한 번에 읽은 사용자들의 한 달 합계
+    public Map<Long, List<String>> getTopCategoryNames(Collection<Long> userIds, Collection<CategorySpend> categorySpends,
+                                                       int limit) {
+        Map<Long, List<CategorySpendDto>> categorySpendsByUser = new HashMap<>();
+        for (Long userId : userIds) {
+            categorySpendsByUser.put(userId, new ArrayList<>());
+        }
+        for (CategorySpend categorySpend : categorySpends) {
+            if (categorySpend.getExpenseCount() > 0) {
+                categorySpendsByUser.get(categorySpend.getUser().getId()).add(toDto(categorySpend));
+            }
+        }
+
+        Map<Long, List<String>> categoryNamesByUser = new HashMap<>();
+        for (Map.Entry<Long, List<CategorySpendDto>> entry : categorySpendsByUser.entrySet()) {
+            categoryNamesByUser.put(entry.getKey(), topCategoryNames(entry.getValue(), limit));
+        }
+        return categoryNamesByUser;
+    }
+
+    // 한 카테고리의 월 누적 지출
+    public long getExpenseSum(Long userId, YearMonth month, Long categoryId) {
+        return categorySpendRepository.findExpenseSum(userId, month.toString(), categoryId).orElse(0L);
+    }
+
+    // 월별 카테고리 지출 금액 (월 -> 카테고리 id -> 합계)
+    public Map<YearMonth, Map<Long, Long>> getSums(Long userId, Collection<YearMonth> months) {
+        Map<YearMonth, Map<Long, Long>> sums = new HashMap<>();
+        if (months.isEmpty()) {
+            return sums;
+        }
+        Set<String> spendMonths = new HashSet<>();
+        for (YearMonth month : months) {
+            spendMonths.add(month.toString());
+        }
+        for (CategorySpend categorySpend : categorySpendRepository.findByUserIdAndSpendMonthIn(userId, spendMonths)) {
+            sums.computeIfAbsent(YearMonth.parse(categorySpend.getSpendMonth()), month -> new HashMap<>())
+                    .put(categorySpend.getCategory().getCategoryId(), categorySpend.getExpenseSum());
+        }
+        return sums;
+    }
+
+    private List<String> topCategoryNames(List<CategorySpendDto> categorySpendDtoList, int limit) {
+        categorySpendDtoList.sort(BY_COUNT_DESC);
+
+        List<String> categoryNameList = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, categorySpendDtoList.size()); i++) {
+            categoryNameList.add(categorySpendDtoList.get(i).getCategoryName());
+        }
+        return categoryNameList;
+    }
+
+    private CategorySpendDto toDto(CategorySpend categorySpend) {
+        Long categoryId = categorySpend.getCategory().getCategoryId();
+        return new CategorySpendDto(categorySpend.getSpendMonth(), categoryId,
+                referenceDataRegistry.getCategoryName(categoryId),
+                categorySpend.getExpenseSum(), categorySpend.getExpenseCount());
+    }
+}
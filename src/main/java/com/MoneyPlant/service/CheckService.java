@@ -1,7 +1,11 @@
 package com.MoneyPlant.service;
 
+import com.MoneyPlant.constant.LedgerDateRange;
+import com.MoneyPlant.dto.CategorySpendDto;
+import com.MoneyPlant.dto.CursorPageDto;
 import com.MoneyPlant.dto.ExpenseDto;
 import com.MoneyPlant.dto.IncomeDto;
+import com.MoneyPlant.dto.LedgerCursor;
 import com.MoneyPlant.entity.*;
 import com.MoneyPlant.repository.*;
 import com.MoneyPlant.service.jwt.UserDetailsImpl;
@@ -9,11 +13,11 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.YearMonth;
 import java.util.*;
 
 @Service
@@ -23,8 +27,7 @@ import java.util.*;
 public class CheckService {
     private final IncomeRepository incomeRepository;
     private final ExpenseRepository expenseRepository;
-    private final CategoryRepository categoryRepository;
-    private final CategoryIncomeRepository categoryIncomeRepository;
+    private final CategorySpendService categorySpendService;
 
     @Getter @Setter
     public class TransactionDto {
@@ -33,108 +36,105 @@ public class CheckService {
     }
 
     // 수입&카테고리 조회
+    @Transactional(readOnly = true)
     public List<IncomeDto> getIncomeWithCategory(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         log.info("시용자 아이디 : " + userId);
-        List<Income> incomeList = incomeRepository.findByUserId(userId);
 
-        List<IncomeDto> incomeDtoList = new ArrayList<>();
-        for (Income income : incomeList) {
+        // 카테고리는 JOIN 으로 함께 조회 (쿼리 1번)
+        return incomeRepository.findWithCategoryByUserId(userId);
+    }
+
+
+    // 지출&카테고리 조회
+    @Transactional(readOnly = true)
+    public List<ExpenseDto> getExpenseWithCategory(UserDetailsImpl userDetails) {
+        Long userId = userDetails.getId();
+        log.info("지출 사용자 아이디 : " + userId);
+
+        // 카테고리는 JOIN 으로 함께 조회 (쿼리 1번)
+        return expenseRepository.findWithCategoryByUserId(userId);
+    }
+
+
+    // 수입&카테고리 페이지 조회 (커서 기반, 기간/카테고리 필터)
+    @Transactional(readOnly = true)
+    public CursorPageDto<IncomeDto> getIncomeWithCategoryPage(UserDetailsImpl userDetails, String cursor, Integer size,
+                                                              String from, String to, Long categoryIncomeId) {
+        Long userId = userDetails.getId();
+        LedgerCursor ledgerCursor = LedgerCursor.parse(cursor);
+        int pageSize = LedgerCursor.pageSize(size);
+
+        // 카테고리는 JOIN FETCH 로 함께 조회, 다음 페이지 여부 확인을 위해 한 건 더 조회
+        List<Income> incomeList = incomeRepository.findPageByUserId(userId,
+                LedgerDateRange.fromOrMin(from), LedgerDateRange.toOrMax(to), categoryIncomeId,
+                ledgerCursor.getDate(), ledgerCursor.getId(), PageRequest.of(0, pageSize + 1));
+
+        return CursorPageDto.of(incomeList, pageSize, income -> {
             IncomeDto incomeDto = new IncomeDto();
             incomeDto.setIncomeId(income.getIncomeId());
             incomeDto.setIncomeAmount(income.getIncomeAmount());
-            incomeDto.setIncomeDate(income.getIncomeDate());
+            incomeDto.setIncomeDate(income.getIncomeDate().toString());
             incomeDto.setIncomeContent(income.getIncomeContent());
             incomeDto.setCategoryIncomeId(income.getCategoryIncome().getCategoryIncomeId());
-            incomeDto.setUserId(income.getUser().getId());
-
-            String categoryIncomeName = categoryIncomeRepository.findByCategoryIncomeId(income.getCategoryIncome().getCategoryIncomeId()).getCategoryIncomeName();
-            incomeDto.setCategoryIncomeName(categoryIncomeName);
-
-            incomeDtoList.add(incomeDto);
-        }
-
-        return incomeDtoList;
+            incomeDto.setCategoryIncomeName(income.getCategoryIncome().getCategoryIncomeName());
+            incomeDto.setUserId(userId);
+            incomeDto.setVersion(income.getVersion());
+            return incomeDto;
+        }, last -> LedgerCursor.encode(last.getIncomeDate(), last.getIncomeId()));
     }
 
-
-    // 지출&카테고리 조회
-    public List<ExpenseDto> getExpenseWithCategory(UserDetailsImpl userDetails) {
+    // 지출&카테고리 페이지 조회 (커서 기반, 기간/카테고리 필터)
+    @Transactional(readOnly = true)
+    public CursorPageDto<ExpenseDto> getExpenseWithCategoryPage(UserDetailsImpl userDetails, String cursor, Integer size,
+                                                                String from, String to, Long categoryId) {
         Long userId = userDetails.getId();
-        log.info("지출 사용자 아이디 : " + userId);
-        List<Expense> expenseList = expenseRepository.findByUserId(userId);
+        LedgerCursor ledgerCursor = LedgerCursor.parse(cursor);
+        int pageSize = LedgerCursor.pageSize(size);
+
+        // 카테고리는 JOIN FETCH 로 함께 조회, 다음 페이지 여부 확인을 위해 한 건 더 조회
+        List<Expense> expenseList = expenseRepository.findPageByUserId(userId,
+                LedgerDateRange.fromOrMin(from), LedgerDateRange.toOrMax(to), categoryId,
+                ledgerCursor.getDate(), ledgerCursor.getId(), PageRequest.of(0, pageSize + 1));
 
-        List<ExpenseDto> expenseDtoList = new ArrayList<>();
-        for (Expense expense : expenseList) {
+        return CursorPageDto.of(expenseList, pageSize, expense -> {
             ExpenseDto expenseDto = new ExpenseDto();
             expenseDto.setExpenseId(expense.getExpenseId());
             expenseDto.setExpenseAmount(expense.getExpenseAmount());
-            expenseDto.setExpenseDate(expense.getExpenseDate());
+            expenseDto.setExpenseDate(expense.getExpenseDate().toString());
             expenseDto.setExpenseContent(expense.getExpenseContent());
             expenseDto.setCategoryId(expense.getCategory().getCategoryId());
-            expenseDto.setUserId(expense.getUser().getId());
-
-            String categoryName = categoryRepository.findByCategoryId(expense.getCategory().getCategoryId()).getCategoryName();
-            expenseDto.setCategoryName(categoryName);
-
-            expenseDtoList.add(expenseDto);
-        }
-
-        return expenseDtoList;
+            expenseDto.setCategoryName(expense.getCategory().getCategoryName());
+            expenseDto.setUserId(userId);
+            expenseDto.setVersion(expense.getVersion());
+            return expenseDto;
+        }, last -> LedgerCursor.encode(last.getExpenseDate(), last.getExpenseId()));
     }
 
 
     //월간 지출 카테고리별 합계(해당 월만 보여줍니다)
-    private String getMonthFromDate(String date) {
-        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
-        Date parsedDate;
-        try {
-            parsedDate = format.parse(date);
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(parsedDate);
-            int year = calendar.get(Calendar.YEAR);
-            int month = calendar.get(Calendar.MONTH) + 1;
-            return year + "_" + month;
-        } catch (ParseException e) {
-            e.printStackTrace();
-            // 월 값을 추출할 수 없는 경우 예외 처리
-            return "";
-        }
-    }
-
+    @Transactional(readOnly = true)
     public Map<String, Double> getExpenseSumByCategory(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         log.info("사용자 아이디: " + userId);
 
-        List<Expense> expenseList = expenseRepository.findByUserId(userId);
-        Map<String, Double> categoryExpenseMap = new HashMap<>();
-
-        for (Expense expense : expenseList) {
-            String categoryName = expense.getCategory().getCategoryName();
-            double expenseAmount = expense.getExpenseAmount();
-
-            // 현재 년도와 월을 키에 추가합니다.
-            String currentYearMonth = getCurrentYear() + "_" + getCurrentMonth();
-            String key = categoryName + "_" + currentYearMonth;
+        // 키 : 카테고리이름_년_월
+        YearMonth currentMonth = YearMonth.now();
+        String currentYearMonth = currentMonth.getYear() + "_" + currentMonth.getMonthValue();
 
-            // 카테고리별 월별 지출 합계에 누적하여 합산
-            categoryExpenseMap.put(key, categoryExpenseMap.getOrDefault(key, 0.0) + expenseAmount);
+        Map<String, Double> categoryExpenseMap = new HashMap<>();
+        for (CategorySpendDto categorySpendDto : categorySpendService.getMonth(userId, currentMonth)) {
+            categoryExpenseMap.put(categorySpendDto.getCategoryName() + "_" + currentYearMonth,
+                    (double) categorySpendDto.getExpenseSum());
         }
-
         return categoryExpenseMap;
     }
 
-    private int getCurrentYear() {
-        Calendar calendar = Calendar.getInstance();
-        return calendar.get(Calendar.YEAR);
+    // 월별 카테고리 지출 합계 (month: yyyy-MM, 없으면 이번 달)
+    @Transactional(readOnly = true)
+    public List<CategorySpendDto> getCategorySpend(UserDetailsImpl userDetails, String month) {
+        YearMonth yearMonth = month != null && !month.isEmpty() ? YearMonth.parse(month) : YearMonth.now();
+        return categorySpendService.getMonth(userDetails.getId(), yearMonth);
     }
-
-    private int getCurrentMonth() {
-        Calendar calendar = Calendar.getInstance();
-        return calendar.get(Calendar.MONTH) + 1;
-    }
-
-
-
 }
 
@@ -0,0 +1,144 @@
+package com.MoneyPlant.service;
+
+import com.MoneyPlant.constant.ELedgerType;
+import com.MoneyPlant.constant.LedgerDateRange;
+import com.MoneyPlant.dto.LedgerExportRowDto;
+import com.MoneyPlant.entity.Expense;
+import com.MoneyPlant.entity.Income;
+import com.MoneyPlant.repository.ExpenseRepository;
+import com.MoneyPlant.repository.IncomeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// 가계부 내보내기 (CSV / NDJSON)
+// 전체 목록을 메모리에 올리지 않고 DB 커서에서 한 행씩 읽어 바로 응답에 씁니다.
+@Service
+@Slf4j
+public class LedgerExportService {
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private final IncomeRepository incomeRepository;
+    private final ExpenseRepository expenseRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ObjectWriter rowWriter;
+
+    public LedgerExportService(IncomeRepository incomeRepository,
+                               ExpenseRepository expenseRepository,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper) {
+        this.incomeRepository = incomeRepository;
+        this.expenseRepository = expenseRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.rowWriter = objectMapper.writerFor(LedgerExportRowDto.class);
+    }
+
+    // type 이 null 이면 수입, 지출 순서로 모두 내보냄
+    public void export(Long userId, ELedgerType type, String format, String from, String to, OutputStream outputStream) throws IOException {
+        LocalDate fromDate = LedgerDateRange.fromOrMin(from);
+        LocalDate toDate = LedgerDateRange.toOrMax(to);
+        boolean csv = !FORMAT_NDJSON.equalsIgnoreCase(format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (csv) {
+            writer.write(LedgerExportRowDto.CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                if (type == null || type == ELedgerType.INCOME) {
+                    try (Stream<Income> incomes = incomeRepository.streamByUserId(userId, fromDate, toDate)) {
+                        Iterator<Income> iterator = incomes.iterator();
+                        while (iterator.hasNext()) {
+                            Income income = iterator.next();
+                            writeRow(writer, csv, new LedgerExportRowDto("income", income.getIncomeId(),
+                                    income.getIncomeDate().toString(), income.getIncomeAmount(),
+                                    income.getCategoryIncome().getCategoryIncomeId(),
+                                    income.getCategoryIncome().getCategoryIncomeName(),
+                                    income.getIncomeContent()));
+                            // 영속성 컨텍스트가 커지지 않도록 쓴 행은 바로 분리
+                            entityManager.detach(income);
+                        }
+                    }
+                }
+                if (type == null || type == ELedgerType.EXPENSE) {
+                    try (Stream<Expense> expenses = expenseRepository.streamByUserId(userId, fromDate, toDate)) {
+                        Iterator<Expense> iterator = expenses.iterator();
+                        while (iterator.hasNext()) {
+                            Expense expense = iterator.next();
+                            writeRow(writer, csv, new LedgerExportRowDto("expense", expense.getExpenseId(),
+                                    expense.getExpenseDate().toString(), expense.getExpenseAmount(),
+                                    expense.getCategory().getCategoryId(),
+                                    expense.getCategory().getCategoryName(),
+                                    expense.getExpenseContent()));
+                            entityManager.detach(expense);
+                        }
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 끊김 등
+            log.warn("가계부 내보내기 중단 - userId: {}", userId, e);
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    private void writeRow(Writer writer, boolean csv, LedgerExportRowDto row) {
+        try {
+            if (csv) {
+                writer.write(row.getType());
+                writer.write(',');
+                writer.write(String.valueOf(row.getId()));
+                writer.write(',');
+                writer.write(row.getDate());
+                writer.write(',');
+                writer.write(String.valueOf(row.getAmount()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getCategoryId()));
+                writer.write(',');
+                writer.write(escapeCsv(row.getCategoryName()));
+                writer.write(',');
+                writer.write(escapeCsv(row.getContent()));
+            } else {
+                writer.write(rowWriter.writeValueAsString(row));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 내부 따옴표는 "" 로 이스케이프
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,411 @@
+package com.MoneyPlant.service;
+
+import com.MoneyPlant.constant.ELedgerType;
+import com.MoneyPlant.dto.LedgerImportResultDto;
+import com.MoneyPlant.dto.LedgerImportRowDto;
+import com.MoneyPlant.entity.*;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+// 가계부 대량 등록 (CSV / JSON 배열)
+// 요청 본문을 한 행씩 읽으면서 검증하고, CHUNK_SIZE 행마다 별도 트랜잭션으로 JDBC 배치 INSERT 합니다.
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LedgerImportService {
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_ERROR_REPORTS = 1000;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final LedgerRollupService ledgerRollupService;
+
+    // JSON 배열 또는 NDJSON (한 줄에 객체 하나, 내보내기 형식)
+    public LedgerImportResultDto importJson(Long userId, ELedgerType type, InputStream inputStream) throws IOException {
+        ImportContext context = new ImportContext(userId, type);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            JsonToken first = parser.nextToken();
+            boolean array = first == JsonToken.START_ARRAY;
+            if (!array && first != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("JSON 배열 또는 NDJSON 형식이 아닙니다.");
+            }
+
+            JsonToken token = array ? parser.nextToken() : first;
+            while (array ? token != JsonToken.END_ARRAY : token != null) {
+                // 객체가 아닌 값이나 끝나지 않은 배열은 조용히 멈추지 않고 요청 전체를 거절
+                if (token == null) {
+                    throw new IllegalArgumentException("JSON 배열이 끝나지 않았습니다.");
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException("JSON " + (context.rowNumber + 1) + "번째 값이 객체가 아닙니다: " + token);
+                }
+                JsonNode node = parser.readValueAsTree();
+                try {
+                    LedgerImportRowDto row = new LedgerImportRowDto(
+                            textOf(node, "type"),
+                            textOf(node, "date"),
+                            intOf(node, "amount"),
+                            longOf(node, "categoryId"),
+                            textOf(node, "categoryName"),
+                            textOf(node, "content"));
+                    context.accept(row);
+                } catch (NumberFormatException e) {
+                    context.reject("숫자 형식이 잘못되었습니다: " + e.getMessage());
+                }
+                token = parser.nextToken();
+            }
+        }
+
+        return context.finish();
+    }
+
+    // CSV 첫 줄은 헤더 (type,date,amount,categoryId,categoryName,content 중 필요한 열, 순서 무관)
+    // 큰따옴표로 감싼 값 안의 줄바꿈은 값의 일부로 읽으므로 내보내기 결과를 그대로 다시 등록할 수 있습니다.
+    public LedgerImportResultDto importCsv(Long userId, ELedgerType type, InputStream inputStream) throws IOException {
+        ImportContext context = new ImportContext(userId, type);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            List<String> headerColumns = readCsvRecord(reader);
+            if (headerColumns == null) {
+                return context.finish();
+            }
+            Map<String, Integer> header = new HashMap<>();
+            for (int i = 0; i < headerColumns.size(); i++) {
+                header.put(headerColumns.get(i).replace("\uFEFF", "").trim(), i);
+            }
+
+            List<String> columns;
+            while ((columns = readCsvRecord(reader)) != null) {
+                if (columns.size() == 1 && columns.get(0).trim().isEmpty()) {
+                    continue;
+                }
+                String amount = columnOf(columns, header, "amount");
+                String categoryId = columnOf(columns, header, "categoryId");
+                try {
+                    LedgerImportRowDto row = new LedgerImportRowDto(
+                            columnOf(columns, header, "type"),
+                            columnOf(columns, header, "date"),
+                            amount != null ? Integer.valueOf(amount) : null,
+                            categoryId != null ? Long.valueOf(categoryId) : null,
+                            columnOf(columns, header, "categoryName"),
+                            columnOf(columns, header, "content"));
+                    context.accept(row);
+                } catch (NumberFormatException e) {
+                    context.reject("숫자 형식이 잘못되었습니다: " + e.getMessage());
+                }
+            }
+        }
+
+        return context.finish();
+    }
+
+    // 카테고리 이름 -> id (검증용)
+    private Map<String, Long> loadCategories(ELedgerType type) {
+        Map<String, Long> categories = new HashMap<>();
+        if (type == ELedgerType.INCOME) {
+            for (CategoryIncome categoryIncome : referenceDataRegistry.getCategoryIncomes()) {
+                categories.put(categoryIncome.getCategoryIncomeName(), categoryIncome.getCategoryIncomeId());
+            }
+        } else {
+            for (Category category : referenceDataRegistry.getCategories()) {
+                categories.put(category.getCategoryName(), category.getCategoryId());
+            }
+        }
+        return categories;
+    }
+
+    // 한 청크를 하나의 트랜잭션으로 저장 (flush 시 JDBC 배치 전송, clear 로 영속성 컨텍스트 비움)
+    private void persistChunk(Long userId, ELedgerType type, List<ValidRow> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = entityManager.getReference(User.class, userId);
+            Map<LocalDate, long[]> rollupDeltas = new HashMap<>();
+            Map<YearMonth, Map<Long, long[]>> categorySpendDeltas = new HashMap<>();
+
+            for (ValidRow row : chunk) {
+                if (type == ELedgerType.INCOME) {
+                    Income income = new Income();
+                    income.setUser(user);
+                    income.setCategoryIncome(entityManager.getReference(CategoryIncome.class, row.categoryId));
+                    income.setIncomeAmount(row.amount);
+                    income.setIncomeDate(row.date);
+                    income.setIncomeContent(row.content);
+                    entityManager.persist(income);
+                } else {
+                    Expense expense = new Expense();
+                    expense.setUser(user);
+                    expense.setCategory(entityManager.getReference(Category.class, row.categoryId));
+                    expense.setExpenseAmount(row.amount);
+                    expense.setExpenseDate(row.date);
+                    expense.setExpenseContent(row.content);
+                    entityManager.persist(expense);
+
+                    long[] spendDelta = categorySpendDeltas
+                            .computeIfAbsent(YearMonth.from(row.date), month -> new HashMap<>())
+                            .computeIfAbsent(row.categoryId, categoryId -> new long[2]);
+                    spendDelta[0] += row.amount;
+                    spendDelta[1]++;
+                }
+
+                long[] delta = rollupDeltas.computeIfAbsent(row.date, date -> new long[2]);
+                delta[0] += row.amount;
+                delta[1]++;
+            }
+
+            // 합계 테이블은 날짜별(카테고리 합계는 월 x 카테고리별)로 모아서 한 번씩만 반영
+            for (Map.Entry<LocalDate, long[]> entry : rollupDeltas.entrySet()) {
+                long[] delta = entry.getValue();
+                if (type == ELedgerType.INCOME) {
+                    ledgerRollupService.upsertIncome(userId, entry.getKey(), delta[0], (int) delta[1]);
+                } else {
+                    ledgerRollupService.upsertExpense(userId, entry.getKey(), delta[0], (int) delta[1]);
+                }
+            }
+            for (Map.Entry<YearMonth, Map<Long, long[]>> monthEntry : categorySpendDeltas.entrySet()) {
+                for (Map.Entry<Long, long[]> entry : monthEntry.getValue().entrySet()) {
+                    long[] delta = entry.getValue();
+                    ledgerRollupService.upsertCategorySpend(userId, monthEntry.getKey(), entry.getKey(), delta[0], (int) delta[1]);
+                }
+            }
+            // 추천 삭제, 캐시 무효화는 청크당 한 번
+            ledgerRollupService.finishImportChunk(userId, categorySpendDeltas.containsKey(YearMonth.now()));
+
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private String textOf(JsonNode node, String field) {
+        return node.hasNonNull(field) ? node.get(field).asText() : null;
+    }
+
+    // 정수만 허용 ("abc", 1.5, int 범위 밖은 NumberFormatException - asInt 처럼 0 이나 버림으로 바꾸지 않음)
+    private Integer intOf(JsonNode node, String field) {
+        Long value = longOf(node, field);
+        if (value == null) {
+            return null;
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException(field + "=" + node.get(field));
+        }
+        return value.intValue();
+    }
+
+    private Long longOf(JsonNode node, String field) {
+        if (!node.hasNonNull(field)) {
+            return null;
+        }
+        JsonNode value = node.get(field);
+        if (value.isIntegralNumber() && value.canConvertToLong()) {
+            return value.longValue();
+        }
+        if (value.isTextual()) {
+            try {
+                return Long.valueOf(value.asText().trim());
+            } catch (NumberFormatException e) {
+                throw new NumberFormatException(field + "=" + value);
+            }
+        }
+        throw new NumberFormatException(field + "=" + value);
+    }
+
+    private String columnOf(List<String> columns, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= columns.size()) {
+            return null;
+        }
+        String value = columns.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // CSV 레코드 하나 읽기 (입력이 끝나면 null)
+    // 큰따옴표로 감싼 값("a,b")과 이스케이프된 따옴표(""), 따옴표 안의 줄바꿈을 지원합니다.
+    private List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (; c >= 0; c = reader.read()) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        current.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    current.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                // \r\n 줄바꿈
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else {
+                current.append((char) c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+
+    // 검증을 통과한 행
+    private static class ValidRow {
+        private final int rowNumber;
+        private final LocalDate date;
+        private final int amount;
+        private final Long categoryId;
+        private final String content;
+
+        private ValidRow(int rowNumber, LocalDate date, int amount, Long categoryId, String content) {
+            this.rowNumber = rowNumber;
+            this.date = date;
+            this.amount = amount;
+            this.categoryId = categoryId;
+            this.content = content;
+        }
+    }
+
+    // 유형(수입/지출)별 검증 기준과 저장 대기 중인 청크
+    private class TypedRows {
+        private final ELedgerType type;
+        private final Map<String, Long> categories;
+        private final Set<Long> categoryIds;
+        private final List<ValidRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        private TypedRows(ELedgerType type) {
+            this.type = type;
+            this.categories = loadCategories(type);
+            this.categoryIds = new HashSet<>(categories.values());
+        }
+    }
+
+    // 한 번의 등록 요청 상태 (행 번호, 유형별 청크, 결과)
+    // 행에 type(income / expense)이 있으면 그 유형으로, 없으면 요청 경로의 유형으로 등록합니다.
+    private class ImportContext {
+        private final Long userId;
+        private final ELedgerType defaultType;
+        private final Map<ELedgerType, TypedRows> typedRows = new EnumMap<>(ELedgerType.class);
+        private final LedgerImportResultDto result = new LedgerImportResultDto();
+        private int rowNumber = 0;
+
+        private ImportContext(Long userId, ELedgerType defaultType) {
+            this.userId = userId;
+            this.defaultType = defaultType;
+        }
+
+        private void accept(LedgerImportRowDto row) {
+            rowNumber++;
+
+            ELedgerType type = defaultType;
+            if (row.getType() != null) {
+                try {
+                    type = ELedgerType.from(row.getType());
+                } catch (IllegalArgumentException e) {
+                    addError(rowNumber, "유형은 income 또는 expense 여야 합니다: " + row.getType());
+                    return;
+                }
+            }
+            TypedRows rows = typedRows.computeIfAbsent(type, TypedRows::new);
+
+            LocalDate date;
+            try {
+                date = LocalDate.parse(row.getDate());
+            } catch (NullPointerException | DateTimeParseException e) {
+                addError(rowNumber, "날짜 형식이 잘못되었습니다 (yyyy-MM-dd): " + row.getDate());
+                return;
+            }
+            if (row.getAmount() == null || row.getAmount() < 0) {
+                addError(rowNumber, "금액이 없거나 음수입니다.");
+                return;
+            }
+            Long categoryId = row.getCategoryId();
+            if (categoryId == null && row.getCategoryName() != null) {
+                categoryId = rows.categories.get(row.getCategoryName());
+            }
+            if (categoryId == null || !rows.categoryIds.contains(categoryId)) {
+                addError(rowNumber, "카테고리를 찾을 수 없습니다.");
+                return;
+            }
+
+            rows.chunk.add(new ValidRow(rowNumber, date, row.getAmount(), categoryId, row.getContent()));
+            if (rows.chunk.size() >= CHUNK_SIZE) {
+                flushChunk(rows);
+            }
+        }
+
+        private void reject(String message) {
+            rowNumber++;
+            addError(rowNumber, message);
+        }
+
+        private void flushChunk(TypedRows rows) {
+            List<ValidRow> chunk = rows.chunk;
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                persistChunk(userId, rows.type, chunk);
+                result.setImportedRows(result.getImportedRows() + chunk.size());
+            } catch (Exception e) {
+                log.error("대량 등록 청크 저장 실패 - userId: {}, type: {}, 행 {}~{}", userId, rows.type,
+                        chunk.get(0).rowNumber, chunk.get(chunk.size() - 1).rowNumber, e);
+                for (ValidRow row : chunk) {
+                    addError(row.rowNumber, "저장 실패: " + e.getMessage());
+                }
+            }
+            chunk.clear();
+        }
+
+        private void addError(int row, String message) {
+            result.setFailedRows(result.getFailedRows() + 1);
+            if (result.getErrors().size() < MAX_ERROR_REPORTS) {
+                result.getErrors().add(new LedgerImportResultDto.RowError(row, message));
+            }
+        }
+
+        private LedgerImportResultDto finish() {
+            for (TypedRows rows : typedRows.values()) {
+                flushChunk(rows);
+            }
+            result.setTotalRows(rowNumber);
+            log.info("대량 등록 완료 - userId: {}, type: {}, 전체: {}, 성공: {}, 실패: {}",
+                    userId, defaultType, rowNumber, result.getImportedRows(), result.getFailedRows());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.MoneyPlant.service;
+
+import com.MoneyPlant.constant.ERollupGranularity;
+import com.MoneyPlant.constant.LedgerDateRange;
+import com.MoneyPlant.dto.LedgerSumDto;
+import com.MoneyPlant.entity.LedgerRollup;
+import com.MoneyPlant.entity.User;
+import com.MoneyPlant.repository.CardRecommendationRepository;
+import com.MoneyPlant.repository.CategorySpendRepository;
+import com.MoneyPlant.repository.ExpenseRepository;
+import com.MoneyPlant.repository.IncomeRepository;
+import com.MoneyPlant.repository.LedgerRollupRepository;
+import com.MoneyPlant.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.transaction.Transactional;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+// 가계부 일/월 합계 테이블(ledger_rollup), 월 x 카테고리 지출 합계 테이블(category_spend) 관리
+// 수입, 지출이 등록/수정/삭제될 때 같은 트랜잭션에서 증감분만 반영합니다.
+// 이번 달 카테고리 지출이 바뀌면 미리 계산해 둔 이번 달 카드 추천(card_recommendation)도 같은 트랜잭션에서 지웁니다.
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class LedgerRollupService {
+    private static final int USER_PAGE_SIZE = 500;
+
+    private final LedgerRollupRepository ledgerRollupRepository;
+    private final CategorySpendRepository categorySpendRepository;
+    private final CardRecommendationRepository cardRecommendationRepository;
+    private final IncomeRepository incomeRepository;
+    private final ExpenseRepository expenseRepository;
+    private final UserRepository userRepository;
+    private final LedgerStatisticsCache ledgerStatisticsCache;
+    private final TransactionTemplate transactionTemplate;
+
+    // 수입 증감 반영 (등록: +금액, +1 / 삭제: -금액, -1)
+    public void applyIncome(Long userId, LocalDate incomeDate, long amountDelta, int countDelta) {
+        apply(userId, incomeDate, amountDelta, 0, countDelta, 0);
+    }
+
+    // 지출 증감 반영
+    public void applyExpense(Long userId, LocalDate expenseDate, long amountDelta, int countDelta) {
+        apply(userId, expenseDate, 0, amountDelta, 0, countDelta);
+    }
+
+    // 월 x 카테고리 지출 증감 반영 (지출은 applyExpense 와 함께 호출)
+    public void applyCategorySpend(Long userId, YearMonth month, Long categoryId, long amountDelta, int countDelta) {
+        upsertCategorySpend(userId, month, categoryId, amountDelta, countDelta);
+        if (month.equals(YearMonth.now())) {
+            discardRecommendation(userId);
+        }
+        ledgerStatisticsCache.invalidate(userId);
+    }
+
+    //----------------------------------------------------------
+    //대량 등록
+    // 증감만 반영하고 추천 삭제, 캐시 무효화는 하지 않음 (청크가 끝나면 finishImportChunk 를 한 번 호출)
+    public void upsertIncome(Long userId, LocalDate incomeDate, long amountDelta, int countDelta) {
+        upsert(userId, incomeDate, amountDelta, 0, countDelta, 0);
+    }
+
+    public void upsertExpense(Long userId, LocalDate expenseDate, long amountDelta, int countDelta) {
+        upsert(userId, expenseDate, 0, amountDelta, 0, countDelta);
+    }
+
+    public void upsertCategorySpend(Long userId, YearMonth month, Long categoryId, long amountDelta, int countDelta) {
+        categorySpendRepository.upsertDelta(userId, month.toString(), categoryId, amountDelta, countDelta);
+    }
+
+    // 청크 단위로 한 번만 이번 달 추천 삭제 + 캐시 무효화
+    public void finishImportChunk(Long userId, boolean currentMonthSpendChanged) {
+        if (currentMonthSpendChanged) {
+            discardRecommendation(userId);
+        }
+        ledgerStatisticsCache.invalidate(userId);
+    }
+
+    // 수정/삭제 대상 행 기준 증감 반영 (sign: 1 더하기, -1 빼기)
+    public void applyIncomeRows(Long userId, Collection<Long> incomeIds, int sign) {
+        ledgerRollupRepository.applyIncomeRows(userId, incomeIds, sign);
+        ledgerStatisticsCache.invalidate(userId);
+    }
+
+    public void applyIncomeRange(Long userId, LocalDate from, LocalDate to, int sign) {
+        ledgerRollupRepository.applyIncomeRange(userId, from, to, sign);
+        ledgerStatisticsCache.invalidate(userId);
+    }
+
+    public void applyExpenseRows(Long userId, Collection<Long> expenseIds, int sign) {
+        ledgerRollupRepository.applyExpenseRows(userId, expenseIds, sign);
+        categorySpendRepository.applyExpenseRows(userId, expenseIds, sign);
+        discardRecommendation(userId);
+        ledgerStatisticsCache.invalidate(userId);
+    }
+
+    public void applyExpenseRange(Long userId, LocalDate from, LocalDate to, int sign) {
+        ledgerRollupRepository.applyExpenseRange(userId, from, to, sign);
+        categorySpendRepository.applyExpenseRange(userId, from, to, sign);
+        YearMonth currentMonth = YearMonth.now();
+        if (!YearMonth.from(from).isAfter(currentMonth) && !YearMonth.from(to).isBefore(currentMonth)) {
+            discardRecommendation(userId);
+        }
+        ledgerStatisticsCache.invalidate(userId);
+    }
+
+    // 수정 전/후 값의 증감을 한 번에 반영 (updateOwned 직전에 호출, null 값은 기존 값 유지)
+    public void applyIncomePatch(Long userId, Long incomeId, Integer amount, LocalDate incomeDate, Long version) {
+        ledgerRollupRepository.applyIncomePatch(userId, incomeId, amount, incomeDate, version);
+        ledgerStatisticsCache.invalidate(userId);
+    }
+
+    public void applyExpensePatch(Long userId, Long expenseId, Integer amount, LocalDate expenseDate,
+                                  Long categoryId, Long version) {
+        ledgerRollupRepository.applyExpensePatch(userId, expenseId, amount, expenseDate, version);
+        categorySpendRepository.applyExpensePatch(userId, expenseId, amount, expenseDate, categoryId, version);
+        discardRecommendation(userId);
+        ledgerStatisticsCache.invalidate(userId);
+    }
+
+    // 대상 지출 행의 월을 따로 읽지 않고 이번 달 추천을 지움 (없으면 아무 행도 지우지 않음)
+    private void discardRecommendation(Long userId) {
+        cardRecommendationRepository.deleteByUserIdAndRecommendMonth(userId, YearMonth.now().toString());
+    }
+
+    private void apply(Long userId, LocalDate date, long incomeDelta, long expenseDelta,
+                       int incomeCountDelta, int expenseCountDelta) {
+        upsert(userId, date, incomeDelta, expenseDelta, incomeCountDelta, expenseCountDelta);
+        ledgerStatisticsCache.invalidate(userId);
+    }
+
+    private void upsert(Long userId, LocalDate date, long incomeDelta, long expenseDelta,
+                        int incomeCountDelta, int expenseCountDelta) {
+        ledgerRollupRepository.upsertDayAndMonthDelta(userId, date.toString(), YearMonth.from(date).toString(),
+                incomeDelta, expenseDelta, incomeCountDelta, expenseCountDelta);
+    }
+
+    //----------------------------------------------------------
+    //조회
+    // 일별 합계 (bucket = yyyy-MM-dd, 기간은 LedgerDateRange 로 검사한 날짜)
+    public List<LedgerRollup> getDaily(Long userId, LocalDate from, LocalDate to) {
+        return ledgerRollupRepository.findByUserIdAndGranularityAndBucketKeyBetweenOrderByBucketKey(
+                userId, ERollupGranularity.DAY, from.toString(), to.toString());
+    }
+
+    // 월별 합계 (bucket = yyyy-MM, from / to 가 속한 달까지 포함)
+    public List<LedgerRollup> getMonthly(Long userId, LocalDate from, LocalDate to) {
+        return ledgerRollupRepository.findByUserIdAndGranularityAndBucketKeyBetweenOrderByBucketKey(
+                userId, ERollupGranularity.MONTH, YearMonth.from(from).toString(), YearMonth.from(to).toString());
+    }
+
+    //----------------------------------------------------------
+    //재계산
+    // 원본 income, expense 테이블에서 사용자의 합계를 다시 계산합니다 (누적 오차 복구용)
+    public void rebuild(Long userId) {
+        ledgerRollupRepository.deleteByUserId(userId);
+
+        User user = userRepository.getReferenceById(userId);
+        Map<String, LedgerRollup> rollups = new LinkedHashMap<>();
+
+        // 일별/월별 합계는 DB에서 GROUP BY 로 계산 (원본 행을 애플리케이션으로 가져오지 않음)
+        for (LedgerSumDto sum : incomeRepository.sumDailyByUserId(userId, LedgerDateRange.MIN_DATE, LedgerDateRange.MAX_DATE)) {
+            LedgerRollup rollup = rollupOf(rollups, user, ERollupGranularity.DAY, sum.getBucket());
+            rollup.setIncomeSum(sum.getTotal());
+            rollup.setIncomeCount(sum.getCount().intValue());
+        }
+        for (LedgerSumDto sum : incomeRepository.sumMonthlyByUserId(userId, LedgerDateRange.MIN_DATE, LedgerDateRange.MAX_DATE)) {
+            LedgerRollup rollup = rollupOf(rollups, user, ERollupGranularity.MONTH, sum.getBucket());
+            rollup.setIncomeSum(sum.getTotal());
+            rollup.setIncomeCount(sum.getCount().intValue());
+        }
+        for (LedgerSumDto sum : expenseRepository.sumDailyByUserId(userId, LedgerDateRange.MIN_DATE, LedgerDateRange.MAX_DATE)) {
+            LedgerRollup rollup = rollupOf(rollups, user, ERollupGranularity.DAY, sum.getBucket());
+            rollup.setExpenseSum(sum.getTotal());
+            rollup.setExpenseCount(sum.getCount().intValue());
+        }
+        for (LedgerSumDto sum : expenseRepository.sumMonthlyByUserId(userId, LedgerDateRange.MIN_DATE, LedgerDateRange.MAX_DATE)) {
+            LedgerRollup rollup = rollupOf(rollups, user, ERollupGranularity.MONTH, sum.getBucket());
+            rollup.setExpenseSum(sum.getTotal());
+            rollup.setExpenseCount(sum.getCount().intValue());
+        }
+
+        ledgerRollupRepository.saveAll(rollups.values());
+
+        // 월 x 카테고리 합계는 원본 지출 전체를 한 번의 INSERT ... SELECT 로 다시 채움
+        categorySpendRepository.deleteByUserId(userId);
+        categorySpendRepository.applyExpenseRange(userId, LedgerDateRange.MIN_DATE, LedgerDateRange.MAX_DATE, 1);
+        discardRecommendation(userId);
+
+        ledgerStatisticsCache.invalidate(userId);
+        log.info("ledger_rollup 재계산 완료 - userId: {}, bucket 수: {}", userId, rollups.size());
+    }
+
+    // 전체 사용자 재계산
+    // 사용자마다 별도 트랜잭션으로 처리해서 한 트랜잭션이 전체 테이블을 오래 잡고 있지 않도록 하고,
+    // 한 사용자가 실패해도 나머지 사용자의 재계산은 유지합니다.
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public int rebuildAll() {
+        int rebuiltCount = 0;
+        Long lastUserId = 0L;
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(lastUserId, PageRequest.of(0, USER_PAGE_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            for (Long userId : userIds) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> rebuild(userId));
+                    rebuiltCount++;
+                } catch (RuntimeException e) {
+                    log.warn("ledger_rollup 재계산 실패 - userId: {}", userId, e);
+                }
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+        return rebuiltCount;
+    }
+
+    private LedgerRollup rollupOf(Map<String, LedgerRollup> rollups, User user,
+                                  ERollupGranularity granularity, String bucketKey) {
+        return rollups.computeIfAbsent(granularity + ":" + bucketKey, key -> {
+            LedgerRollup rollup = new LedgerRollup();
+            rollup.setUser(user);
+            rollup.setGranularity(granularity);
+            rollup.setBucketKey(bucketKey);
+            return rollup;
+        });
+    }
+}
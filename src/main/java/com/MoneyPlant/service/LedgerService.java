@@ -1,20 +1,31 @@
 package com.MoneyPlant.service;
 
+import com.MoneyPlant.constant.LedgerDateRange;
 import com.MoneyPlant.dto.CategoryDto;
 import com.MoneyPlant.dto.CategoryIncomeDto;
+import com.MoneyPlant.dto.CursorPageDto;
 import com.MoneyPlant.dto.ExpenseDto;
 import com.MoneyPlant.dto.IncomeDto;
+import com.MoneyPlant.dto.LedgerCursor;
+import com.MoneyPlant.dto.LedgerPatchDto;
+import com.MoneyPlant.dto.LedgerTimelineCursor;
+import com.MoneyPlant.dto.LedgerTimelineDto;
 import com.MoneyPlant.entity.*;
 import com.MoneyPlant.repository.*;
+import com.MoneyPlant.service.alert.ExpenseRecordedEvent;
 import com.MoneyPlant.service.jwt.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import javax.annotation.PostConstruct;
-import javax.transaction.Transactional;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
 
 
@@ -29,6 +40,11 @@ public class LedgerService {
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final CategoryIncomeRepository categoryIncomeRepository;
+    private final LedgerRollupService ledgerRollupService;
+    private final LedgerStatisticsCache ledgerStatisticsCache;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final CategorySpendService categorySpendService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PostConstruct
     public void insertCategoryIncomeData() {
@@ -64,23 +80,27 @@ public class LedgerService {
         incomeDto.setUserId(userId);
 
         try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            // 사용자, 카테고리는 FK 만 필요하므로 SELECT 없이 참조(프록시)만 사용
             Long categoryIncomeId = Long.valueOf(incomeDto.getCategoryIncomeId());
-            CategoryIncome categoryIncome = categoryIncomeRepository.findById(categoryIncomeId)
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다."));
+            if (!referenceDataRegistry.findCategoryIncome(categoryIncomeId).isPresent()) {
+                throw new RuntimeException("카테고리를 찾을 수 없습니다.");
+            }
+            User user = userRepository.getReferenceById(userId);
+            CategoryIncome categoryIncome = categoryIncomeRepository.getReferenceById(categoryIncomeId);
 
             Income income = new Income();
             income.setUser(user);
             income.setCategoryIncome(categoryIncome);
             income.setIncomeAmount(incomeDto.getIncomeAmount());
-            income.setIncomeDate(incomeDto.getIncomeDate());
+            income.setIncomeDate(LocalDate.parse(incomeDto.getIncomeDate()));
             income.setIncomeContent(incomeDto.getIncomeContent());
 
             incomeRepository.save(income);
+            ledgerRollupService.applyIncome(userId, income.getIncomeDate(), income.getIncomeAmount(), 1);
             return true;
         } catch (Exception e) {
             System.err.println("수입 등록 실패: " + e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
@@ -91,23 +111,35 @@ public class LedgerService {
         expenseDto.setUserId(userId);
 
         try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            // 사용자, 카테고리는 FK 만 필요하므로 SELECT 없이 참조(프록시)만 사용
             Long categoryId = Long.valueOf(expenseDto.getCategoryId());
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다."));
+            if (!referenceDataRegistry.findCategory(categoryId).isPresent()) {
+                throw new RuntimeException("카테고리를 찾을 수 없습니다.");
+            }
+            User user = userRepository.getReferenceById(userId);
+            Category category = categoryRepository.getReferenceById(categoryId);
 
             Expense expense = new Expense();
             expense.setUser(user);
             expense.setCategory(category);
             expense.setExpenseAmount(expenseDto.getExpenseAmount());
-            expense.setExpenseDate(expenseDto.getExpenseDate());
+            expense.setExpenseDate(LocalDate.parse(expenseDto.getExpenseDate()));
             expense.setExpenseContent(expenseDto.getExpenseContent());
 
             expenseRepository.save(expense);
+            ledgerRollupService.applyExpense(userId, expense.getExpenseDate(), expense.getExpenseAmount(), 1);
+            YearMonth expenseMonth = YearMonth.from(expense.getExpenseDate());
+            ledgerRollupService.applyCategorySpend(userId, expenseMonth, categoryId, expense.getExpenseAmount(), 1);
+
+            // 예산 알림은 커밋 후 비동기로 확인 (service/alert/BudgetAlertListener)
+            // 누적 지출은 위 upsert 로 잠긴 행을 같은 트랜잭션에서 읽으므로 동시 등록이 있어도 이번 지출 직후 값입니다.
+            long monthSpentMoney = categorySpendService.getExpenseSum(userId, expenseMonth, categoryId);
+            eventPublisher.publishEvent(new ExpenseRecordedEvent(userId, categoryId,
+                    expense.getExpenseDate(), expense.getExpenseAmount(), monthSpentMoney));
             return true;
         } catch (Exception e) {
             System.err.println("지출 등록 실패: " + e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
@@ -115,94 +147,168 @@ public class LedgerService {
 
     //----------------------------------------------------------
     //수정
+    // 수정/삭제는 작성자 본인 행만, 요청한 version 과 같을 때만 한 번의 UPDATE / DELETE 로 반영합니다.
+    // 반영된 행이 없으면 (다른 사용자의 행, 이미 삭제됨, version 충돌) 합계 테이블 변경까지 롤백하고 false 를 반환합니다.
     // 수입 수정
-    public boolean updateIncome(Long incomeId, IncomeDto updatedIncomeDto) {
-        try {
-            Income income = incomeRepository.findById(incomeId)
-                    .orElseThrow(() -> new RuntimeException("수입 정보를 찾을 수 없습니다."));
-
-            User user = userRepository.findById(updatedIncomeDto.getUserId())
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-            CategoryIncome categoryIncome = categoryIncomeRepository.findById(updatedIncomeDto.getCategoryIncomeId())
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다."));
+    public boolean updateIncome(Long incomeId, IncomeDto updatedIncomeDto, UserDetailsImpl userDetails) {
+        return updateIncome(incomeId, new LedgerPatchDto(
+                updatedIncomeDto.getIncomeAmount(),
+                updatedIncomeDto.getIncomeDate(),
+                updatedIncomeDto.getIncomeContent(),
+                updatedIncomeDto.getCategoryIncomeId(),
+                updatedIncomeDto.getVersion()), userDetails);
+    }
 
-            // 수정할 필드 업데이트
-            income.setUser(user);
-            income.setCategoryIncome(categoryIncome);
-            income.setIncomeAmount(updatedIncomeDto.getIncomeAmount());
-            income.setIncomeDate(updatedIncomeDto.getIncomeDate());
-            income.setIncomeContent(updatedIncomeDto.getIncomeContent());
+    // 수입 부분 수정
+    public boolean updateIncome(Long incomeId, LedgerPatchDto patchDto, UserDetailsImpl userDetails) {
+        Long userId = userDetails.getId();
 
-            incomeRepository.save(income); // 수정된 수입 정보 저장
+        try {
+            if (patchDto.getCategoryId() != null
+                    && !referenceDataRegistry.findCategoryIncome(patchDto.getCategoryId()).isPresent()) {
+                throw new RuntimeException("카테고리를 찾을 수 없습니다.");
+            }
+            LocalDate incomeDate = patchDto.getDate() != null ? LocalDate.parse(patchDto.getDate()) : null;
+
+            // 합계 테이블에 (새 값 - 기존 값) 반영 -> 수정
+            ledgerRollupService.applyIncomePatch(userId, incomeId, patchDto.getAmount(), incomeDate,
+                    patchDto.getVersion());
+            int updated = incomeRepository.updateOwned(userId, incomeId, patchDto.getAmount(), incomeDate,
+                    patchDto.getContent(), patchDto.getCategoryId(), patchDto.getVersion());
+            if (updated == 0) {
+                throw new RuntimeException("수입 정보를 찾을 수 없거나 이미 변경되었습니다.");
+            }
             return true;
         } catch (Exception e) {
             System.err.println("수입 수정 실패: " + e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
 
     // 지출 수정
-    public boolean updateExpense(Long expenseId, ExpenseDto updatedExpenseDto) {
-        try {
-            Expense expense = expenseRepository.findById(expenseId)
-                    .orElseThrow(() -> new RuntimeException("지출 정보를 찾을 수 없습니다."));
-
-            User user = userRepository.findById(updatedExpenseDto.getUserId())
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-            Category category = categoryRepository.findById(updatedExpenseDto.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다."));
+    public boolean updateExpense(Long expenseId, ExpenseDto updatedExpenseDto, UserDetailsImpl userDetails) {
+        return updateExpense(expenseId, new LedgerPatchDto(
+                updatedExpenseDto.getExpenseAmount(),
+                updatedExpenseDto.getExpenseDate(),
+                updatedExpenseDto.getExpenseContent(),
+                updatedExpenseDto.getCategoryId(),
+                updatedExpenseDto.getVersion()), userDetails);
+    }
 
-            // 수정할 필드 업데이트
-            expense.setUser(user);
-            expense.setCategory(category);
-            expense.setExpenseAmount(updatedExpenseDto.getExpenseAmount());
-            expense.setExpenseDate(updatedExpenseDto.getExpenseDate());
-            expense.setExpenseContent(updatedExpenseDto.getExpenseContent());
+    // 지출 부분 수정
+    public boolean updateExpense(Long expenseId, LedgerPatchDto patchDto, UserDetailsImpl userDetails) {
+        Long userId = userDetails.getId();
 
-            expenseRepository.save(expense); // 수정된 지출 정보 저장
+        try {
+            if (patchDto.getCategoryId() != null
+                    && !referenceDataRegistry.findCategory(patchDto.getCategoryId()).isPresent()) {
+                throw new RuntimeException("카테고리를 찾을 수 없습니다.");
+            }
+            LocalDate expenseDate = patchDto.getDate() != null ? LocalDate.parse(patchDto.getDate()) : null;
+
+            // 합계 테이블에 (새 값 - 기존 값) 반영 -> 수정
+            ledgerRollupService.applyExpensePatch(userId, expenseId, patchDto.getAmount(), expenseDate,
+                    patchDto.getCategoryId(), patchDto.getVersion());
+            int updated = expenseRepository.updateOwned(userId, expenseId, patchDto.getAmount(), expenseDate,
+                    patchDto.getContent(), patchDto.getCategoryId(), patchDto.getVersion());
+            if (updated == 0) {
+                throw new RuntimeException("지출 정보를 찾을 수 없거나 이미 변경되었습니다.");
+            }
             return true;
         } catch (Exception e) {
             System.err.println("지출 수정 실패: " + e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
 
     //----------------------------------------------------------
     //삭제
-    // 수입 삭제
-    public boolean deleteIncome(Long incomeId) {
-        try {
-            Income income = incomeRepository.findById(incomeId)
-                    .orElseThrow(() -> new RuntimeException("수입 정보를 찾을 수 없습니다."));
+    // 수입 삭제 (version 이 null 이면 버전 확인 생략)
+    public boolean deleteIncome(Long incomeId, Long version, UserDetailsImpl userDetails) {
+        Long userId = userDetails.getId();
 
-            incomeRepository.delete(income); // 수입 정보 삭제
+        try {
+            ledgerRollupService.applyIncomeRows(userId, Collections.singletonList(incomeId), -1);
+            if (incomeRepository.deleteOwned(userId, incomeId, version) == 0) {
+                throw new RuntimeException("수입 정보를 찾을 수 없거나 이미 변경되었습니다.");
+            }
             return true;
         } catch (Exception e) {
             System.err.println("수입 삭제 실패: " + e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
 
     // 지출 삭제
-    public boolean deleteExpense(Long expenseId) {
-        try {
-            Expense expense = expenseRepository.findById(expenseId)
-                    .orElseThrow(() -> new RuntimeException("수입 정보를 찾을 수 없습니다."));
+    public boolean deleteExpense(Long expenseId, Long version, UserDetailsImpl userDetails) {
+        Long userId = userDetails.getId();
 
-            expenseRepository.delete(expense); // 수입 정보 삭제
+        try {
+            ledgerRollupService.applyExpenseRows(userId, Collections.singletonList(expenseId), -1);
+            if (expenseRepository.deleteOwned(userId, expenseId, version) == 0) {
+                throw new RuntimeException("지출 정보를 찾을 수 없거나 이미 변경되었습니다.");
+            }
             return true;
         } catch (Exception e) {
             System.err.println("지출 삭제 실패: " + e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
 
+    // 수입 일괄 삭제 (id 목록 또는 기간, 본인 행만 삭제) - 삭제된 건수, 실패 시 -1
+    // 기간 형식이 잘못되면 IllegalArgumentException
+    public int deleteIncomes(UserDetailsImpl userDetails, List<Long> incomeIds, String from, String to) {
+        Long userId = userDetails.getId();
+        boolean byIds = incomeIds != null && !incomeIds.isEmpty();
+        // 기간 형식 오류는 IllegalArgumentException 으로 그대로 던짐 (컨트롤러에서 400)
+        LocalDate fromDate = byIds ? null : LedgerDateRange.fromOrMin(from);
+        LocalDate toDate = byIds ? null : LedgerDateRange.toOrMax(to);
+
+        try {
+            if (byIds) {
+                ledgerRollupService.applyIncomeRows(userId, incomeIds, -1);
+                return incomeRepository.deleteOwnedByIds(userId, incomeIds);
+            }
+            ledgerRollupService.applyIncomeRange(userId, fromDate, toDate, -1);
+            return incomeRepository.deleteOwnedByDateRange(userId, fromDate, toDate);
+        } catch (Exception e) {
+            System.err.println("수입 일괄 삭제 실패: " + e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return -1;
+        }
+    }
+
+    // 지출 일괄 삭제
+    public int deleteExpenses(UserDetailsImpl userDetails, List<Long> expenseIds, String from, String to) {
+        Long userId = userDetails.getId();
+        boolean byIds = expenseIds != null && !expenseIds.isEmpty();
+        // 기간 형식 오류는 IllegalArgumentException 으로 그대로 던짐 (컨트롤러에서 400)
+        LocalDate fromDate = byIds ? null : LedgerDateRange.fromOrMin(from);
+        LocalDate toDate = byIds ? null : LedgerDateRange.toOrMax(to);
+
+        try {
+            if (byIds) {
+                ledgerRollupService.applyExpenseRows(userId, expenseIds, -1);
+                return expenseRepository.deleteOwnedByIds(userId, expenseIds);
+            }
+            ledgerRollupService.applyExpenseRange(userId, fromDate, toDate, -1);
+            return expenseRepository.deleteOwnedByDateRange(userId, fromDate, toDate);
+        } catch (Exception e) {
+            System.err.println("지출 일괄 삭제 실패: " + e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return -1;
+        }
+    }
+
 
     //----------------------------------------------------------
     //조회
     // 수입 조회
+    @Transactional(readOnly = true)
     public List<IncomeDto> getIncomes(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         List<Income> incomeList = incomeRepository.findByUserId(userId);
@@ -212,7 +318,7 @@ public class LedgerService {
             IncomeDto incomeDto = new IncomeDto();
             //필요 조회 정보
             incomeDto.setIncomeAmount(income.getIncomeAmount());
-            incomeDto.setIncomeDate(income.getIncomeDate());
+            incomeDto.setIncomeDate(Objects.toString(income.getIncomeDate(), null));
 
             incomeDtoList.add(incomeDto);
         }
@@ -222,6 +328,7 @@ public class LedgerService {
 
 
     // 지출 조회
+    @Transactional(readOnly = true)
     public List<ExpenseDto> getExpenses(UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         List<Expense> expenseList = expenseRepository.findByUserId(userId);
@@ -231,7 +338,7 @@ public class LedgerService {
             ExpenseDto expenseDto = new ExpenseDto();
             //필요 조회 정보
             expenseDto.setExpenseAmount(expense.getExpenseAmount());
-            expenseDto.setExpenseDate(expense.getExpenseDate());
+            expenseDto.setExpenseDate(Objects.toString(expense.getExpenseDate(), null));
 
             expenseDtoList.add(expenseDto);
         }
@@ -239,25 +346,99 @@ public class LedgerService {
         return expenseDtoList;
     }
 
+    // 수입 페이지 조회 (커서 기반, 기간/카테고리 필터)
+    @Transactional(readOnly = true)
+    public CursorPageDto<IncomeDto> getIncomePage(UserDetailsImpl userDetails, String cursor, Integer size,
+                                                  String from, String to, Long categoryIncomeId) {
+        Long userId = userDetails.getId();
+        LedgerCursor ledgerCursor = LedgerCursor.parse(cursor);
+        int pageSize = LedgerCursor.pageSize(size);
+
+        // 다음 페이지 여부 확인을 위해 한 건 더 조회
+        List<Income> incomeList = incomeRepository.findPageByUserId(userId,
+                LedgerDateRange.fromOrMin(from), LedgerDateRange.toOrMax(to), categoryIncomeId,
+                ledgerCursor.getDate(), ledgerCursor.getId(), PageRequest.of(0, pageSize + 1));
+
+        return CursorPageDto.of(incomeList, pageSize, income -> {
+            IncomeDto incomeDto = new IncomeDto();
+            incomeDto.setIncomeId(income.getIncomeId());
+            incomeDto.setIncomeAmount(income.getIncomeAmount());
+            incomeDto.setIncomeDate(income.getIncomeDate().toString());
+            incomeDto.setVersion(income.getVersion());
+            return incomeDto;
+        }, last -> LedgerCursor.encode(last.getIncomeDate(), last.getIncomeId()));
+    }
+
+    // 수입/지출 통합 목록 조회 (UNION ALL 한 번, 커서 기반)
+    @Transactional(readOnly = true)
+    public CursorPageDto<LedgerTimelineDto> getTimeline(UserDetailsImpl userDetails, String cursor, Integer size,
+                                                        String from, String to) {
+        Long userId = userDetails.getId();
+        LedgerTimelineCursor timelineCursor = LedgerTimelineCursor.parse(cursor);
+        int pageSize = LedgerCursor.pageSize(size);
+
+        // 다음 페이지 여부 확인을 위해 한 건 더 조회
+        List<Map<String, Object>> rows = incomeRepository.findTimelineByUserId(userId,
+                LedgerDateRange.fromOrMin(from), LedgerDateRange.toOrMax(to),
+                timelineCursor.getDate(), timelineCursor.getKind(), timelineCursor.getId(), pageSize + 1);
+
+        return CursorPageDto.of(rows, pageSize, row -> {
+            LedgerTimelineDto timelineDto = new LedgerTimelineDto();
+            timelineDto.setType((String) row.get("type"));
+            timelineDto.setId(((Number) row.get("entry_id")).longValue());
+            timelineDto.setDate(row.get("entry_date").toString());
+            timelineDto.setAmount(((Number) row.get("amount")).intValue());
+            timelineDto.setCategoryId(((Number) row.get("category_id")).longValue());
+            timelineDto.setCategoryName((String) row.get("category_name"));
+            timelineDto.setContent((String) row.get("content"));
+            return timelineDto;
+        }, last -> LedgerTimelineCursor.encode(last.get("entry_date").toString(), (String) last.get("type"),
+                ((Number) last.get("entry_id")).longValue()));
+    }
+
+    // 지출 페이지 조회 (커서 기반, 기간/카테고리 필터)
+    @Transactional(readOnly = true)
+    public CursorPageDto<ExpenseDto> getExpensePage(UserDetailsImpl userDetails, String cursor, Integer size,
+                                                    String from, String to, Long categoryId) {
+        Long userId = userDetails.getId();
+        LedgerCursor ledgerCursor = LedgerCursor.parse(cursor);
+        int pageSize = LedgerCursor.pageSize(size);
+
+        // 다음 페이지 여부 확인을 위해 한 건 더 조회
+        List<Expense> expenseList = expenseRepository.findPageByUserId(userId,
+                LedgerDateRange.fromOrMin(from), LedgerDateRange.toOrMax(to), categoryId,
+                ledgerCursor.getDate(), ledgerCursor.getId(), PageRequest.of(0, pageSize + 1));
+
+        return CursorPageDto.of(expenseList, pageSize, expense -> {
+            ExpenseDto expenseDto = new ExpenseDto();
+            expenseDto.setExpenseId(expense.getExpenseId());
+            expenseDto.setExpenseAmount(expense.getExpenseAmount());
+            expenseDto.setExpenseDate(expense.getExpenseDate().toString());
+            expenseDto.setVersion(expense.getVersion());
+            return expenseDto;
+        }, last -> LedgerCursor.encode(last.getExpenseDate(), last.getExpenseId()));
+    }
+
     // 일간 개별 합계 조회
     // 수입
+    @Transactional(readOnly = true)
     public Map<String, Integer> getDailyIncome(UserDetailsImpl userDetails) {
+        return getDailyIncome(userDetails, null, null);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getDailyIncome(UserDetailsImpl userDetails, String from, String to) {
         Long userId = userDetails.getId();
+        LocalDate fromDate = LedgerDateRange.fromOrMin(from);
+        LocalDate toDate = LedgerDateRange.toOrMax(to);
 
-        List<Income> incomeList = incomeRepository.findByUserId(userId);
+        // 날짜별 합계 테이블에서 조회 (조회 기간의 bucket 수만큼만 읽음)
+        List<LedgerRollup> dailyRollups = ledgerRollupService.getDaily(userId, fromDate, toDate);
 
         Map<String, Integer> dailyIncomeList = new LinkedHashMap<>();
-
-        for (Income income : incomeList) {
-            String incomeDate = income.getIncomeDate();
-            int incomeAmount = income.getIncomeAmount();
-
-            // 이미 해당 날짜의 합계가 계산되었는지 확인
-            if (dailyIncomeList.containsKey(incomeDate)) {
-                int currentTotal = dailyIncomeList.get(incomeDate);
-                dailyIncomeList.put(incomeDate, currentTotal + incomeAmount);
-            } else {
-                dailyIncomeList.put(incomeDate, incomeAmount);
+        for (LedgerRollup rollup : dailyRollups) {
+            if (rollup.getIncomeCount() > 0) {
+                dailyIncomeList.put(rollup.getBucketKey(), (int) rollup.getIncomeSum());
             }
         }
 
@@ -265,23 +446,24 @@ public class LedgerService {
     }
 
     //지출
+    @Transactional(readOnly = true)
     public Map<String, Integer> getDailyExpense(UserDetailsImpl userDetails) {
+        return getDailyExpense(userDetails, null, null);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getDailyExpense(UserDetailsImpl userDetails, String from, String to) {
         Long userId = userDetails.getId();
+        LocalDate fromDate = LedgerDateRange.fromOrMin(from);
+        LocalDate toDate = LedgerDateRange.toOrMax(to);
 
-        List<Expense> expenseList = expenseRepository.findByUserId(userId);
+        // 날짜별 합계 테이블에서 조회 (조회 기간의 bucket 수만큼만 읽음)
+        List<LedgerRollup> dailyRollups = ledgerRollupService.getDaily(userId, fromDate, toDate);
 
         Map<String, Integer> dailyExpenseList = new LinkedHashMap<>();
-
-        for (Expense expense : expenseList) {
-            String expenseDate = expense.getExpenseDate();
-            int expenseAmount = expense.getExpenseAmount();
-
-            // 이미 해당 날짜의 합계가 계산되었는지 확인
-            if (dailyExpenseList.containsKey(expenseDate)) {
-                int currentTotal = dailyExpenseList.get(expenseDate);
-                dailyExpenseList.put(expenseDate, currentTotal + expenseAmount);
-            } else {
-                dailyExpenseList.put(expenseDate, expenseAmount);
+        for (LedgerRollup rollup : dailyRollups) {
+            if (rollup.getExpenseCount() > 0) {
+                dailyExpenseList.put(rollup.getBucketKey(), (int) rollup.getExpenseSum());
             }
         }
 
@@ -292,100 +474,108 @@ public class LedgerService {
 
     // 월간 개별 합계 조회
     // 수입
+    @Transactional(readOnly = true)
     public Map<String, Integer> getMonthlyIncome(UserDetailsImpl userDetails) {
-        Long userId = userDetails.getId();
-
-        List<Income> incomeList = incomeRepository.findByUserId(userId);
-
-        Map<String, Integer> monthlyIncome = new LinkedHashMap<>();
+        return getMonthlyIncome(userDetails, null, null);
+    }
 
-        for (Income income : incomeList) {
-            String incomeMonth = getMonthFromDate(income.getIncomeDate());
-            int incomeAmount = income.getIncomeAmount();
-
-            // 이미 해당 월의 합계가 계산되었는지 확인
-            if (monthlyIncome.containsKey(incomeMonth)) {
-                int currentTotal = monthlyIncome.get(incomeMonth);
-                monthlyIncome.put(incomeMonth, currentTotal + incomeAmount);
-            } else {
-                monthlyIncome.put(incomeMonth, incomeAmount);
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getMonthlyIncome(UserDetailsImpl userDetails, String from, String to) {
+        Long userId = userDetails.getId();
+        LocalDate fromDate = LedgerDateRange.fromOrMin(from);
+        LocalDate toDate = LedgerDateRange.toOrMax(to);
+
+        // 같은 달을 가리키는 다른 날짜 문자열이 같은 캐시 항목을 쓰도록 조회하는 달로 키를 만듦
+        return ledgerStatisticsCache.get(userId, "getMonthlyIncome:" + YearMonth.from(fromDate) + ":" + YearMonth.from(toDate), () -> {
+            List<LedgerRollup> monthlyRollups = ledgerRollupService.getMonthly(userId, fromDate, toDate);
+
+            Map<String, Integer> monthlyIncome = new LinkedHashMap<>();
+            for (LedgerRollup rollup : monthlyRollups) {
+                if (rollup.getIncomeCount() > 0) {
+                    monthlyIncome.put(toMonthKey(rollup.getBucketKey()), (int) rollup.getIncomeSum());
+                }
             }
-        }
 
-        return monthlyIncome;
+            return monthlyIncome;
+        });
     }
 
 
     // 지출
+    @Transactional(readOnly = true)
     public Map<String, Integer> getMonthlyExpense(UserDetailsImpl userDetails) {
-        Long userId = userDetails.getId();
-
-        List<Expense> expenseList = expenseRepository.findByUserId(userId);
-
-        Map<String, Integer> monthlyExpense = new LinkedHashMap<>();
+        return getMonthlyExpense(userDetails, null, null);
+    }
 
-        for (Expense expense : expenseList) {
-            String expenseMonth = getMonthFromDate(expense.getExpenseDate());
-            int expenseAmount = expense.getExpenseAmount();
-
-            // 이미 해당 월의 합계가 계산되었는지 확인
-            if (monthlyExpense.containsKey(expenseMonth)) {
-                int currentTotal = monthlyExpense.get(expenseMonth);
-                monthlyExpense.put(expenseMonth, currentTotal + expenseAmount);
-            } else {
-                monthlyExpense.put(expenseMonth, expenseAmount);
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getMonthlyExpense(UserDetailsImpl userDetails, String from, String to) {
+        Long userId = userDetails.getId();
+        LocalDate fromDate = LedgerDateRange.fromOrMin(from);
+        LocalDate toDate = LedgerDateRange.toOrMax(to);
+
+        // 같은 달을 가리키는 다른 날짜 문자열이 같은 캐시 항목을 쓰도록 조회하는 달로 키를 만듦
+        return ledgerStatisticsCache.get(userId, "getMonthlyExpense:" + YearMonth.from(fromDate) + ":" + YearMonth.from(toDate), () -> {
+            List<LedgerRollup> monthlyRollups = ledgerRollupService.getMonthly(userId, fromDate, toDate);
+
+            Map<String, Integer> monthlyExpense = new LinkedHashMap<>();
+            for (LedgerRollup rollup : monthlyRollups) {
+                if (rollup.getExpenseCount() > 0) {
+                    monthlyExpense.put(toMonthKey(rollup.getBucketKey()), (int) rollup.getExpenseSum());
+                }
             }
-        }
 
-        return monthlyExpense;
+            return monthlyExpense;
+        });
     }
 
-    private String getMonthFromDate(String date) {
-        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
-        Date parsedDate;
-        try {
-            parsedDate = format.parse(date);
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(parsedDate);
-            int year = calendar.get(Calendar.YEAR);
-            int month = calendar.get(Calendar.MONTH) + 1;
-            return year + "-" + month;
-        } catch (ParseException e) {
-            e.printStackTrace();
-            // 월 값을 추출할 수 없는 경우 예외 처리
-            return "";
-        }
+    // yyyy-MM -> 기존 응답 형식(yyyy-M) 유지
+    private String toMonthKey(String yearMonth) {
+        String[] parts = yearMonth.split("-");
+        return parts[0] + "-" + Integer.parseInt(parts[1]);
     }
 
     // 월간 전체 합계
+    @Transactional(readOnly = true)
     public Map<String, Integer> getMonthlyStatistics(UserDetailsImpl userDetails) {
-        Long userId = userDetails.getId();
-
-        Map<String, Integer> monthlyStatistics = new LinkedHashMap<>();
+        return getMonthlyStatistics(userDetails, null, null);
+    }
 
-        // 월간 수입 합계 계산
-        Map<String, Integer> monthlyIncome = getMonthlyIncome(userDetails);
-        if (monthlyIncome == null) {
-            monthlyIncome = new HashMap<>();
-        }
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getMonthlyStatistics(UserDetailsImpl userDetails, String from, String to) {
+        Long userId = userDetails.getId();
+        LocalDate fromDate = LedgerDateRange.fromOrMin(from);
+        LocalDate toDate = LedgerDateRange.toOrMax(to);
+
+        // 같은 달을 가리키는 다른 날짜 문자열이 같은 캐시 항목을 쓰도록 조회하는 달로 키를 만듦
+        return ledgerStatisticsCache.get(userId, "getMonthlyStatistics:" + YearMonth.from(fromDate) + ":" + YearMonth.from(toDate), () -> {
+            Map<String, Integer> monthlyStatistics = new LinkedHashMap<>();
+
+            // 월별 수입, 지출 합계를 한 번에 조회
+            List<LedgerRollup> monthlyRollups = ledgerRollupService.getMonthly(userId, fromDate, toDate);
+
+            // 지출이 있는 달만 (수입 - 지출) 계산
+            for (LedgerRollup rollup : monthlyRollups) {
+                if (rollup.getExpenseCount() > 0) {
+                    int total = (int) (rollup.getIncomeSum() - rollup.getExpenseSum());
+                    monthlyStatistics.put(toMonthKey(rollup.getBucketKey()), total);
+                }
+            }
 
-        // 월간 지출 합계 계산
-        Map<String, Integer> monthlyExpense = getMonthlyExpense(userDetails);
-        if (monthlyExpense == null) {
-            monthlyExpense = new HashMap<>();
-        }
+            return monthlyStatistics;
+        });
+    }
 
-        // 월별 합계 계산 및 합산
-        for (String month : monthlyExpense.keySet()) {
-            int incomeTotal = monthlyIncome.getOrDefault(month, 0);
-            int expenseTotal = monthlyExpense.getOrDefault(month, 0);
-            int total = incomeTotal - expenseTotal;
-            monthlyStatistics.put(month, total);
-        }
+    //----------------------------------------------------------
+    //합계 재계산
+    public void rebuildRollups(UserDetailsImpl userDetails) {
+        ledgerRollupService.rebuild(userDetails.getId());
+    }
 
-        return monthlyStatistics;
+    // 사용자별 트랜잭션은 LedgerRollupService 에서 나눠서 엽니다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAllRollups() {
+        return ledgerRollupService.rebuildAll();
     }
 
 
 }
-
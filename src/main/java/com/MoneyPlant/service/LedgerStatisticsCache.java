@@ -0,0 +1,127 @@
+package com.MoneyPlant.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 사용자별 통계 조회 결과 캐시 (대시보드 월별 합계, 카테고리별 합계, 카드 추천)
+// 키 = 사용자 id + 사용자 세대(generation) + 조회 이름/조건
+// 가계부가 변경되면 커밋 후 해당 사용자의 세대를 올려서 이전 항목을 한 번에 무효화합니다.
+// (이전 세대 항목은 크기 제한 / TTL 로 자연히 제거됨)
+// 조회는 replica 에서 실행되므로, 변경 직후 REPLICA_LAG_MILLIS 동안은 복제 지연된 결과를 저장하지 않습니다.
+// 캐시된 Map / List 는 여러 요청이 함께 보므로 수정할 수 없는 복사본으로 저장하고 반환합니다.
+@Component
+@Slf4j
+public class LedgerStatisticsCache {
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final long EXPIRE_AFTER_WRITE_MINUTES = 10;
+    private static final long REPLICA_LAG_MILLIS = 5_000;
+
+    private final Cache<String, Object> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+    // 사용자 세대는 마지막 사용 후 항목 TTL 의 두 배가 지나면 제거
+    // (그 사이 해당 세대로 저장된 항목은 모두 만료되었으므로 0 부터 다시 시작해도 이전 항목과 겹치지 않음)
+    private final Cache<Long, AtomicLong> generations = CacheBuilder.newBuilder()
+            .expireAfterAccess(EXPIRE_AFTER_WRITE_MINUTES * 2, TimeUnit.MINUTES)
+            .build();
+    // 마지막 변경 시각은 복제 지연 시간 동안만 필요
+    private final Cache<Long, Long> lastChangedAt = CacheBuilder.newBuilder()
+            .expireAfterWrite(REPLICA_LAG_MILLIS, TimeUnit.MILLISECONDS)
+            .build();
+
+    // 캐시에 없으면 loader 로 조회 후 저장 (loader 는 null 을 반환하면 안 됨)
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId, String query, Supplier<T> loader) {
+        // 조회 전에 세대를 먼저 읽어야, 조회 중에 커밋된 변경이 이전 세대 키로만 저장됨
+        String key = userId + ":" + generationOf(userId).get() + ":" + query;
+
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        T value = unmodifiableCopy(loader.get());
+        if (!recentlyChanged(userId)) {
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    // 사용자 항목 무효화 (트랜잭션 안이면 커밋 후에 반영)
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(userId);
+                }
+            });
+        } else {
+            bump(userId);
+        }
+    }
+
+    // 전체 무효화 (카드 목록 갱신 등)
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // hit / miss 통계
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.size());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("trackedUsers", generations.size());
+        return result;
+    }
+
+    private void bump(Long userId) {
+        lastChangedAt.put(userId, System.currentTimeMillis());
+        generationOf(userId).incrementAndGet();
+    }
+
+    private boolean recentlyChanged(Long userId) {
+        Long changedAt = lastChangedAt.getIfPresent(userId);
+        return changedAt != null && System.currentTimeMillis() - changedAt < REPLICA_LAG_MILLIS;
+    }
+
+    private AtomicLong generationOf(Long userId) {
+        try {
+            return generations.get(userId, AtomicLong::new);
+        } catch (ExecutionException e) {
+            // AtomicLong 생성은 실패하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmodifiableCopy(T value) {
+        if (value instanceof Map) {
+            return (T) Collections.unmodifiableMap(new LinkedHashMap<>((Map<?, ?>) value));
+        }
+        if (value instanceof List) {
+            return (T) Collections.unmodifiableList(new ArrayList<>((List<?>) value));
+        }
+        return value;
+    }
+}
@@ -1,7 +1,10 @@
 package com.MoneyPlant.service;
 
+import java.time.YearMonth;
+
 public interface MailService {
     String makeCode(int size);
     String makeHtml(String type, String code);
     String sendMail(String type, String email);
+    boolean sendBudgetAlert(String email, String categoryName, YearMonth month, int threshold, long budgetMoney, long spentMoney);
 }
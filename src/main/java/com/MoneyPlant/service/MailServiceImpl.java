@@ -10,6 +10,7 @@ import javax.mail.MessagingException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
 import javax.transaction.Transactional;
+import java.time.YearMonth;
 import java.util.Random;
 
 
@@ -78,6 +79,27 @@ public class MailServiceImpl implements MailService {
         return code;
     }
 
+    // 예산 사용률 알림 (threshold: 80, 100)
+    @Override
+    public boolean sendBudgetAlert(String email, String categoryName, YearMonth month, int threshold,
+                                   long budgetMoney, long spentMoney) {
+        String subject = "MoneyPlan:T 예산 알림 - " + categoryName + " 예산의 " + threshold + "%를 사용했습니다.";
+        String html = month.getYear() + "년 " + month.getMonthValue() + "월 " + categoryName + " 지출이 "
+                + spentMoney + "원으로 예산 " + budgetMoney + "원의 " + threshold + "%를 넘었습니다.";
+
+        MimeMessage mail = mailSender.createMimeMessage();
+        try {
+            mail.setSubject(subject, "utf-8");
+            mail.setText(html, "utf-8", "html");
+            mail.addRecipient(MimeMessage.RecipientType.TO, new InternetAddress(email));
+            mailSender.send(mail);
+            return true;
+        } catch (MessagingException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
     // 이메일이랑 생성 코드를 일치시킨 후 PW를 주입
     public boolean updatePwd(String email, String code) {
         try {
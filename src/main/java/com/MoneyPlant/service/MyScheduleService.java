@@ -32,8 +32,7 @@ public class MyScheduleService {
         try {
             Long userId = userDetails.getId();
             myScheduleDto.setUserId(userId);
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            User user = userRepository.getReferenceById(userId); // FK 만 필요하므로 SELECT 없이 참조만 사용
 
             MySchedule mySchedule = new MySchedule();
             mySchedule.setUser(user);
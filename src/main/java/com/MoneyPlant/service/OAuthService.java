@@ -11,7 +11,6 @@ import com.MoneyPlant.entity.RefreshToken;
 import com.MoneyPlant.entity.Role;
 import com.MoneyPlant.entity.User;
 import com.MoneyPlant.repository.OAuthTokenRepository;
-import com.MoneyPlant.repository.RoleRepository;
 import com.MoneyPlant.repository.UserRepository;
 import com.MoneyPlant.security.jwt.JwtUtils;
 import com.MoneyPlant.service.jwt.RefreshTokenService;
@@ -34,7 +33,7 @@ public class OAuthService {
 
     private final GoogleOAuth socialOAuth;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final OAuthTokenRepository oAuthTokenRepository;
     private final JwtUtils jwtUtils;
     private final GoogleCalendarService googleCalendarService;
@@ -67,7 +66,7 @@ public class OAuthService {
             user.setSocialEmail(googleUser.getEmail());
             user.setSocialProvider("GOOGLE");
             user.setName(googleUser.getName());
-            Role userRole = roleRepository.findByName(ERole.ROLE_USER)
+            Role userRole = referenceDataRegistry.findRole(ERole.ROLE_USER)
                     .orElseThrow(() -> new RuntimeException("Error: Role is not found."));
             user.setRole(userRole);
             user.setGoogleCalendarId(googleCalendarService.getDefaultCalendarId(googleOAuthToken));
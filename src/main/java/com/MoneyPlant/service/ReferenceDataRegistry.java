@@ -0,0 +1,152 @@
+package com.MoneyPlant.service;
+
+import com.MoneyPlant.constant.ERole;
+import com.MoneyPlant.entity.Category;
+import com.MoneyPlant.entity.CategoryIncome;
+import com.MoneyPlant.entity.Role;
+import com.MoneyPlant.repository.CategoryIncomeRepository;
+import com.MoneyPlant.repository.CategoryRepository;
+import com.MoneyPlant.repository.RoleRepository;
+import com.google.common.collect.ImmutableMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+// 고정 기준 데이터(지출 카테고리, 수입 카테고리, 권한) 메모리 저장소
+// 각 서비스의 @PostConstruct 초기값 저장이 끝난 뒤(ApplicationReadyEvent) 한 번 읽어 불변 맵으로 보관합니다.
+// 목록 조회 때 행마다 카테고리 이름을 DB에서 다시 읽지 않도록 id / 이름 변환은 여기서 합니다.
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+    private final CategoryRepository categoryRepository;
+    private final CategoryIncomeRepository categoryIncomeRepository;
+    private final RoleRepository roleRepository;
+
+    private volatile Snapshot snapshot;
+
+    // 부팅 시 방금 등록한 기준 데이터가 replica 에 아직 없을 수 있으므로 primary(쓰기 트랜잭션)에서 읽음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        snapshot = loadSnapshot();
+        log.info("기준 데이터 로딩 완료 - 지출 카테고리: {}, 수입 카테고리: {}, 권한: {}",
+                snapshot.categories.size(), snapshot.categoryIncomes.size(), snapshot.roles.size());
+    }
+
+    //----------------------------------------------------------
+    // 지출 카테고리
+    public Optional<Category> findCategory(Long categoryId) {
+        return Optional.ofNullable(snapshot().categories.get(categoryId));
+    }
+
+    public String getCategoryName(Long categoryId) {
+        Category category = snapshot().categories.get(categoryId);
+        return category != null ? category.getCategoryName() : null;
+    }
+
+    public Long getCategoryId(String categoryName) {
+        return snapshot().categoryIdsByName.get(categoryName);
+    }
+
+    public Collection<Category> getCategories() {
+        return snapshot().categories.values();
+    }
+
+    //----------------------------------------------------------
+    // 수입 카테고리
+    public Optional<CategoryIncome> findCategoryIncome(Long categoryIncomeId) {
+        return Optional.ofNullable(snapshot().categoryIncomes.get(categoryIncomeId));
+    }
+
+    public String getCategoryIncomeName(Long categoryIncomeId) {
+        CategoryIncome categoryIncome = snapshot().categoryIncomes.get(categoryIncomeId);
+        return categoryIncome != null ? categoryIncome.getCategoryIncomeName() : null;
+    }
+
+    public Long getCategoryIncomeId(String categoryIncomeName) {
+        return snapshot().categoryIncomeIdsByName.get(categoryIncomeName);
+    }
+
+    public Collection<CategoryIncome> getCategoryIncomes() {
+        return snapshot().categoryIncomes.values();
+    }
+
+    //----------------------------------------------------------
+    // 권한
+    public Optional<Role> findRole(ERole name) {
+        return Optional.ofNullable(snapshot().roles.get(name));
+    }
+
+    // 시작 이벤트 전에 호출되면 그 자리에서 로딩
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = loadSnapshot();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Snapshot loadSnapshot() {
+        ImmutableMap.Builder<Long, Category> categories = ImmutableMap.builder();
+        ImmutableMap.Builder<String, Long> categoryIdsByName = ImmutableMap.builder();
+        for (Category category : sortedBy(categoryRepository.findAll(), Category::getCategoryId)) {
+            categories.put(category.getCategoryId(), category);
+            categoryIdsByName.put(category.getCategoryName(), category.getCategoryId());
+        }
+
+        ImmutableMap.Builder<Long, CategoryIncome> categoryIncomes = ImmutableMap.builder();
+        ImmutableMap.Builder<String, Long> categoryIncomeIdsByName = ImmutableMap.builder();
+        for (CategoryIncome categoryIncome : sortedBy(categoryIncomeRepository.findAll(), CategoryIncome::getCategoryIncomeId)) {
+            categoryIncomes.put(categoryIncome.getCategoryIncomeId(), categoryIncome);
+            categoryIncomeIdsByName.put(categoryIncome.getCategoryIncomeName(), categoryIncome.getCategoryIncomeId());
+        }
+
+        // roles 는 재시작 때마다 같은 이름으로 다시 저장될 수 있으므로 id 가 가장 작은 것만 사용
+        Map<ERole, Role> roles = new EnumMap<>(ERole.class);
+        for (Role role : sortedBy(roleRepository.findAll(), role -> role.getId().longValue())) {
+            roles.putIfAbsent(role.getName(), role);
+        }
+
+        return new Snapshot(categories.build(), categoryIdsByName.build(),
+                categoryIncomes.build(), categoryIncomeIdsByName.build(), ImmutableMap.copyOf(roles));
+    }
+
+    private static <T> List<T> sortedBy(List<T> list, Function<T, Long> id) {
+        List<T> sorted = new ArrayList<>(list);
+        sorted.sort(Comparator.comparing(id));
+        return sorted;
+    }
+
+    private static class Snapshot {
+        private final ImmutableMap<Long, Category> categories;
+        private final ImmutableMap<String, Long> categoryIdsByName;
+        private final ImmutableMap<Long, CategoryIncome> categoryIncomes;
+        private final ImmutableMap<String, Long> categoryIncomeIdsByName;
+        private final ImmutableMap<ERole, Role> roles;
+
+        private Snapshot(ImmutableMap<Long, Category> categories,
+                         ImmutableMap<String, Long> categoryIdsByName,
+                         ImmutableMap<Long, CategoryIncome> categoryIncomes,
+                         ImmutableMap<String, Long> categoryIncomeIdsByName,
+                         ImmutableMap<ERole, Role> roles) {
+            this.categories = categories;
+            this.categoryIdsByName = categoryIdsByName;
+            this.categoryIncomes = categoryIncomes;
+            this.categoryIncomeIdsByName = categoryIncomeIdsByName;
+            this.roles = roles;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.MoneyPlant.service.alert;
+
+import com.MoneyPlant.entity.Budget;
+import com.MoneyPlant.entity.User;
+import com.MoneyPlant.repository.BudgetRepository;
+import com.MoneyPlant.repository.UserRepository;
+import com.MoneyPlant.service.MailService;
+import com.MoneyPlant.service.ReferenceDataRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 예산 사용률 알림 (80%, 100%)
+// 지출 등록이 커밋된 뒤 별도 스레드 풀에서 확인하므로 등록 요청 응답 시간에는 영향이 없습니다.
+// 누적 지출은 등록 트랜잭션에서 category_spend 의 (사용자, 월, 카테고리) 행으로 구해 이벤트에 담겨 오며,
+// 이번 지출로 기준선을 새로 넘었을 때만 메일을 보냅니다.
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BudgetAlertListener {
+    private static final int[] THRESHOLDS = {100, 80}; // 큰 기준부터 확인 (한 번에 둘 다 넘으면 100% 만 알림)
+    private static final int POOL_SIZE = 2;
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private final BudgetRepository budgetRepository;
+    private final UserRepository userRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final MailService mailService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ThreadPoolExecutor executor = newExecutor();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onExpenseRecorded(ExpenseRecordedEvent event) {
+        try {
+            executor.execute(() -> check(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("예산 알림 대기열이 가득 차서 건너뜀 - userId: {}, categoryId: {}", event.getUserId(), event.getCategoryId());
+        }
+    }
+
+    void check(ExpenseRecordedEvent event) {
+        try {
+            // 방금 저장한 예산도 보이도록 replica 가 아닌 primary(쓰기 트랜잭션)에서 조회
+            transactionTemplate.executeWithoutResult(status -> {
+                YearMonth month = YearMonth.from(event.getExpenseDate());
+                Optional<Budget> budget = budgetRepository.findByUserIdAndCategoryCategoryIdAndBudgetMonth(
+                        event.getUserId(), event.getCategoryId(), month.atDay(1).atStartOfDay());
+                if (!budget.isPresent() || budget.get().getBudgetMoney() <= 0) {
+                    return;
+                }
+
+                long budgetMoney = budget.get().getBudgetMoney();
+                long spentMoney = event.getMonthSpentMoney();
+                long previousSpentMoney = spentMoney - event.getExpenseAmount();
+                for (int threshold : THRESHOLDS) {
+                    long line = budgetMoney * threshold / 100;
+                    if (previousSpentMoney < line && spentMoney >= line) {
+                        notify(event, month, threshold, budgetMoney, spentMoney);
+                        break;
+                    }
+                }
+            });
+        } catch (Exception e) {
+            log.error("예산 알림 확인 실패 - userId: {}, categoryId: {}", event.getUserId(), event.getCategoryId(), e);
+        }
+    }
+
+    private void notify(ExpenseRecordedEvent event, YearMonth month, int threshold, long budgetMoney, long spentMoney) {
+        Optional<User> user = userRepository.findById(event.getUserId());
+        if (!user.isPresent() || user.get().getEmail() == null) {
+            return;
+        }
+        String categoryName = referenceDataRegistry.getCategoryName(event.getCategoryId());
+        mailService.sendBudgetAlert(user.get().getEmail(), categoryName, month, threshold, budgetMoney, spentMoney);
+        log.info("예산 알림 발송 - userId: {}, 카테고리: {}, {}%", event.getUserId(), categoryName, threshold);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ThreadPoolExecutor newExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "budget-alert-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,17 @@
+package com.MoneyPlant.service.alert;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 지출 등록 이벤트 (커밋 후 예산 알림 확인용)
+@Getter
+@AllArgsConstructor
+public class ExpenseRecordedEvent {
+    private final Long userId;
+    private final Long categoryId;
+    private final LocalDate expenseDate;
+    private final int expenseAmount;
+    private final long monthSpentMoney; // 이번 지출까지 포함한 그 달 카테고리 누적 지출
+}
@@ -0,0 +1,80 @@
+package com.MoneyPlant.service.crawler;
+
+import com.MoneyPlant.dto.CardDto;
+import lombok.Getter;
+
+import java.util.*;
+
+// 현재 card_list 와 크롤링 결과 비교 (키 = 카드 이름 + 카테고리)
+// 크롤링한 카테고리 안에서만 비교하므로 실패한 카테고리의 카드는 삭제 대상이 되지 않습니다.
+@Getter
+public class CardCatalogDiff {
+    private final List<CardDto> inserts = new ArrayList<>();
+    private final List<CardDto> updates = new ArrayList<>(); // cardId = 기존 행, 나머지 = 새 값
+    private final List<Long> deletes = new ArrayList<>();
+
+    public static CardCatalogDiff compute(List<CardDto> existingCards, Map<String, List<CardDto>> crawledCardsByCategory) {
+        CardCatalogDiff diff = new CardCatalogDiff();
+
+        Map<List<String>, CardDto> crawled = new LinkedHashMap<>();
+        for (List<CardDto> cards : crawledCardsByCategory.values()) {
+            for (CardDto card : cards) {
+                crawled.putIfAbsent(keyOf(card), card); // 같은 페이지에 두 번 나온 카드는 처음 것만
+            }
+        }
+
+        Set<List<String>> matched = new HashSet<>();
+        for (CardDto existing : existingCards) {
+            if (!crawledCardsByCategory.containsKey(existing.getCardCategory())) {
+                continue;
+            }
+            List<String> key = keyOf(existing);
+            CardDto card = crawled.get(key);
+            if (card == null || !matched.add(key)) {
+                diff.deletes.add(existing.getCardId()); // 사라진 카드, 또는 이전 크롤링에서 중복 저장된 행
+            } else if (changed(existing, card)) {
+                CardDto update = copyOf(card);
+                update.setCardId(existing.getCardId());
+                diff.updates.add(update);
+            }
+        }
+
+        for (Map.Entry<List<String>, CardDto> entry : crawled.entrySet()) {
+            if (!matched.contains(entry.getKey())) {
+                diff.inserts.add(entry.getValue());
+            }
+        }
+        return diff;
+    }
+
+    public boolean isEmpty() {
+        return inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "추가 " + inserts.size() + "건, 수정 " + updates.size() + "건, 삭제 " + deletes.size() + "건";
+    }
+
+    private static List<String> keyOf(CardDto card) {
+        return Arrays.asList(card.getCardName(), card.getCardCategory());
+    }
+
+    private static boolean changed(CardDto existing, CardDto card) {
+        return !Objects.equals(existing.getCardDesc(), card.getCardDesc())
+                || !Objects.equals(existing.getCardImg(), card.getCardImg())
+                || !Objects.equals(existing.getCardLink(), card.getCardLink())
+                || !Objects.equals(existing.getCardAnnualFee(), card.getCardAnnualFee());
+    }
+
+    private static CardDto copyOf(CardDto card) {
+        CardDto copy = new CardDto();
+        copy.setCardName(card.getCardName());
+        copy.setCardCategory(card.getCardCategory());
+        copy.setCardDesc(card.getCardDesc());
+        copy.setCardImg(card.getCardImg());
+        copy.setCardLink(card.getCardLink());
+        copy.setCardAnnualFee(card.getCardAnnualFee());
+        return copy;
+    }
+}
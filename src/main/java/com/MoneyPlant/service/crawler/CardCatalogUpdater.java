@@ -0,0 +1,89 @@
+package com.MoneyPlant.service.crawler;
+
+import com.MoneyPlant.dto.CardDto;
+import com.MoneyPlant.entity.CardCatalogVersion;
+import com.MoneyPlant.entity.CardList;
+import com.MoneyPlant.repository.CardCatalogVersionRepository;
+import com.MoneyPlant.repository.CardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.*;
+
+// 크롤링 결과를 card_list 에 반영
+// 전체 삭제 후 다시 넣지 않고 바뀐 행만 한 트랜잭션에서 반영하므로 크롤링 중에도 카드 목록이 비지 않습니다.
+// 추가 = 여러 행 INSERT, 수정 = JDBC 배치 UPDATE, 삭제 = id IN (...) DELETE 한 번
+// 바뀐 행이 있으면 같은 트랜잭션에서 card_catalog_version 을 올려 다른 서버가 다시 읽게 합니다.
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CardCatalogUpdater {
+    private static final int INSERT_CHUNK_SIZE = 200;
+
+    private final CardRepository cardRepository;
+    private final CardCatalogVersionRepository cardCatalogVersionRepository;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public CardCatalogDiff apply(CardCrawlResult crawlResult) {
+        Map<String, List<CardDto>> cardsByCategory = crawlResult.getCardsByCategory();
+        if (cardsByCategory.isEmpty()) {
+            return CardCatalogDiff.compute(Collections.emptyList(), cardsByCategory);
+        }
+
+        Map<Long, CardList> existingRows = new HashMap<>();
+        List<CardDto> existingCards = new ArrayList<>();
+        for (CardList cardList : cardRepository.findByCardCategoryInOrderByCardId(cardsByCategory.keySet())) {
+            existingRows.put(cardList.getCardId(), cardList);
+            existingCards.add(cardList.toCardDto());
+        }
+
+        CardCatalogDiff diff = CardCatalogDiff.compute(existingCards, cardsByCategory);
+
+        for (CardDto update : diff.getUpdates()) {
+            CardList cardList = existingRows.get(update.getCardId());
+            cardList.setCardDesc(update.getCardDesc());
+            cardList.setCardImg(update.getCardImg());
+            cardList.setCardLink(update.getCardLink());
+            cardList.setCardAnnualFee(update.getCardAnnualFee());
+        }
+        entityManager.flush();
+
+        if (!diff.getDeletes().isEmpty()) {
+            cardRepository.deleteAllByIdInBatch(diff.getDeletes());
+        }
+        for (int from = 0; from < diff.getInserts().size(); from += INSERT_CHUNK_SIZE) {
+            insert(diff.getInserts().subList(from, Math.min(from + INSERT_CHUNK_SIZE, diff.getInserts().size())));
+        }
+        if (!diff.isEmpty()) {
+            cardCatalogVersionRepository.increment(CardCatalogVersion.CARD_LIST);
+        }
+
+        log.info("카드 목록 반영 - 카테고리 {}개, {}", cardsByCategory.size(), diff);
+        return diff;
+    }
+
+    private void insert(List<CardDto> cards) {
+        StringBuilder sql = new StringBuilder("INSERT INTO card_list " +
+                "(card_name, card_category, card_desc, card_img, card_link, card_annual_fee) VALUES ");
+        for (int i = 0; i < cards.size(); i++) {
+            sql.append(i > 0 ? ", " : "").append("(?, ?, ?, ?, ?, ?)");
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (CardDto card : cards) {
+            query.setParameter(position++, card.getCardName());
+            query.setParameter(position++, card.getCardCategory());
+            query.setParameter(position++, card.getCardDesc());
+            query.setParameter(position++, card.getCardImg());
+            query.setParameter(position++, card.getCardLink());
+            query.setParameter(position++, card.getCardAnnualFee());
+        }
+        query.executeUpdate();
+    }
+}
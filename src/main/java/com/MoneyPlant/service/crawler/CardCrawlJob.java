@@ -0,0 +1,213 @@
+package com.MoneyPlant.service.crawler;
+
+import com.MoneyPlant.constant.ECrawlState;
+import com.MoneyPlant.constant.ECrawlTrigger;
+import com.MoneyPlant.dto.CardCrawlStatusDto;
+import com.MoneyPlant.service.CardCatalog;
+import com.MoneyPlant.service.CardRecommendationService;
+import com.MoneyPlant.service.lease.HeldLease;
+import com.MoneyPlant.service.lease.JobLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 카드 크롤링 작업 실행기 (한 번에 하나만 실행)
+// 서버 시작 / 스케줄 / 관리자 요청이 겹치면 새로 시작하지 않고, 여러 서버 중에서는 job_lease 실행권을 얻은 한 곳에서만 실행합니다.
+// 작업은 별도 스레드에서 돌고 card_list 는 반영(APPLY) 단계의 한 트랜잭션에서만 바뀌므로,
+// 크롤링 중이거나 실패·취소·시간 초과로 끝나도 마지막으로 반영된 카드 목록으로 계속 추천합니다.
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CardCrawlJob {
+    private static final long JOB_TIMEOUT_MINUTES = 30;
+    private static final String LEASE_NAME = "cardCrawl";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(2); // 서버가 죽으면 2분 뒤 다른 서버가 실행 가능
+
+    private final CardCrawler cardCrawler;
+    private final CardCatalogUpdater cardCatalogUpdater;
+    private final CardCatalog cardCatalog;
+    private final CardRecommendationService cardRecommendationService;
+    private final JobLeaseService jobLeaseService;
+
+    // 작업 스레드 1개 + 시간 초과 감시 1개
+    private final ScheduledExecutorService executor = newExecutor();
+    private volatile Run run;
+
+    // 새 작업 시작 (이 서버나 다른 서버에서 이미 실행 중이면 false)
+    public synchronized boolean start(ECrawlTrigger trigger) {
+        if (run != null && run.state == ECrawlState.RUNNING) {
+            log.info("카드 크롤링이 이미 실행 중이라 건너뜀 - 요청: {}, 실행 중: {}", trigger, run.trigger);
+            return false;
+        }
+        Run newRun = new Run(trigger, CardCrawler.CATEGORY_URLS.size());
+        // 여러 서버 중 실행권을 얻은 한 곳에서만 실행, 실행권을 잃으면 반영 전에 중단
+        Optional<HeldLease> lease = jobLeaseService.tryAcquire(LEASE_NAME, LEASE_DURATION, newRun::loseLease);
+        if (!lease.isPresent()) {
+            return false;
+        }
+        newRun.lease = lease.get();
+        run = newRun;
+        newRun.timeout = executor.schedule(() -> {
+            newRun.timedOut = true;
+            newRun.stop();
+        }, JOB_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        executor.execute(() -> execute(newRun));
+        return true;
+    }
+
+    // 실행 중인 작업 취소 (실행 중이 아니면 false)
+    // 반영 트랜잭션 도중이면 롤백되어 기존 카드 목록이 그대로 남습니다.
+    public synchronized boolean cancel() {
+        Run current = run;
+        if (current == null || current.state != ECrawlState.RUNNING) {
+            return false;
+        }
+        current.stop();
+        return true;
+    }
+
+    public CardCrawlStatusDto getStatus() {
+        Run current = run;
+        if (current == null) {
+            return new CardCrawlStatusDto(ECrawlState.IDLE, null, null, 0, CardCrawler.CATEGORY_URLS.size(),
+                    Collections.emptyList(), null, null, null);
+        }
+        return new CardCrawlStatusDto(current.state, current.trigger, current.phase,
+                current.fetchedCategories.get(), current.totalCategories,
+                new ArrayList<>(current.failedCategories), current.message,
+                current.startedAt, current.finishedAt);
+    }
+
+    private void execute(Run run) {
+        long startedAt = System.currentTimeMillis();
+        run.worker = Thread.currentThread();
+        try {
+            if (run.stopRequested) {
+                throw new InterruptedException(); // 시작 전에 취소된 경우
+            }
+            run.phase = "FETCH";
+            CardCrawlResult crawlResult = cardCrawler.crawl(CardCrawler.CATEGORY_URLS,
+                    category -> run.fetchedCategories.incrementAndGet());
+            run.failedCategories = crawlResult.getFailedCategories();
+            if (crawlResult.getCardsByCategory().isEmpty()) {
+                run.finish(ECrawlState.FAILED, "모든 카테고리 크롤링에 실패했습니다.");
+                return;
+            }
+            checkInterrupted();
+
+            run.phase = "APPLY";
+            CardCatalogDiff diff = cardCatalogUpdater.apply(crawlResult);
+            run.message = diff.toString();
+            if (!diff.isEmpty()) {
+                cardCatalog.reload(); // 카드 목록 색인 교체 (카드 추천 캐시도 비움)
+            }
+            checkInterrupted();
+
+            run.phase = "PRECOMPUTE";
+            cardRecommendationService.precomputeAll(); // 전체 사용자 추천 결과 미리 계산
+            checkInterrupted();
+
+            run.finish(ECrawlState.SUCCEEDED, crawlResult.getTimedOutCategories().isEmpty() ? diff.toString()
+                    : diff + ", 시간 제한으로 건너뛴 카테고리: " + crawlResult.getTimedOutCategories());
+        } catch (InterruptedException e) {
+            run.finish(run.stoppedState(), run.phase + " 단계에서 중단되었습니다." + (run.leaseLost ? " (실행권 상실)" : ""));
+        } catch (Exception e) {
+            // 중단 신호 때문에 JDBC 등이 예외로 끝난 경우도 취소 / 시간 초과로 기록
+            log.error("카드 크롤링 작업 실패 - 단계: {}", run.phase, e);
+            run.finish(run.stopRequested ? run.stoppedState() : ECrawlState.FAILED, e.getMessage());
+        } finally {
+            run.worker = null;
+            Thread.interrupted(); // 늦게 도착한 중단 신호 정리
+            run.timeout.cancel(false);
+            run.lease.close(); // finish 에서 이미 반납했으면 아무것도 하지 않음 (예상 못 한 Error 대비)
+            log.info("카드 크롤링 작업 종료 - 요청: {}, 상태: {}, {}, 실패한 카테고리: {}, {}ms",
+                    run.trigger, run.state, run.message, run.failedCategories, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ScheduledExecutorService newExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "card-crawl-job-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 한 번의 작업 (상태는 작업 스레드가 쓰고 다른 스레드는 읽기만 함)
+    private static class Run {
+        private final ECrawlTrigger trigger;
+        private final int totalCategories;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger fetchedCategories = new AtomicInteger();
+        private volatile ECrawlState state = ECrawlState.RUNNING;
+        private volatile String phase;
+        private volatile List<String> failedCategories = Collections.emptyList();
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+        private volatile boolean timedOut;
+        private volatile boolean stopRequested;
+        private volatile boolean leaseLost;
+        private volatile Thread worker;
+        private volatile ScheduledFuture<?> timeout;
+        private volatile HeldLease lease;
+
+        private Run(ECrawlTrigger trigger, int totalCategories) {
+            this.trigger = trigger;
+            this.totalCategories = totalCategories;
+        }
+
+        // 취소 / 시간 초과 요청 (작업 스레드가 이미 돌고 있으면 중단 신호)
+        private void stop() {
+            stopRequested = true;
+            Thread current = worker;
+            if (current != null) {
+                current.interrupt();
+            }
+        }
+
+        // 다른 서버가 실행권을 가져갔을 수 있으므로 card_list 반영 전에 중단
+        private void loseLease() {
+            leaseLost = true;
+            stop();
+        }
+
+        private ECrawlState stoppedState() {
+            if (leaseLost) {
+                return ECrawlState.FAILED;
+            }
+            return timedOut ? ECrawlState.TIMED_OUT : ECrawlState.CANCELLED;
+        }
+
+        // 종료 상태를 공개하기 전에 실행권부터 반납
+        // (상태가 먼저 바뀌면 바로 들어온 다음 시작 요청이 아직 반납 전인 실행권 때문에 실패할 수 있음)
+        private void finish(ECrawlState state, String message) {
+            Thread.interrupted(); // 늦게 도착한 중단 신호 때문에 반납 UPDATE 가 실패하지 않도록 정리
+            lease.close();
+            this.message = message;
+            this.finishedAt = LocalDateTime.now();
+            this.state = state;
+        }
+    }
+}
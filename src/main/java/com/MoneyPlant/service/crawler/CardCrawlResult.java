@@ -0,0 +1,14 @@
+package com.MoneyPlant.service.crawler;
+
+import com.MoneyPlant.dto.CardDto;
+import lombok.Getter;
+
+import java.util.*;
+
+// 한 번의 크롤링 결과 (성공한 카테고리별 카드, 실패한 카테고리, 그중 시간 제한으로 건너뛴 카테고리)
+@Getter
+public class CardCrawlResult {
+    private final Map<String, List<CardDto>> cardsByCategory = new LinkedHashMap<>();
+    private final List<String> failedCategories = new ArrayList<>();
+    private final List<String> timedOutCategories = new ArrayList<>();
+}
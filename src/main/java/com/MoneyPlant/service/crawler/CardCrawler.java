@@ -0,0 +1,109 @@
+package com.MoneyPlant.service.crawler;
+
+import com.MoneyPlant.dto.CardDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// 카테고리별 카드 검색 결과 페이지를 FETCH_PARALLELISM 개씩 동시에 가져와 파싱
+// 실패한 카테고리는 결과에서 빠지고(failedCategories), 반영 단계에서 그 카테고리의 기존 카드는 그대로 둡니다.
+// 전체 시간 제한은 fetcher 의 페이지당 최대 시간 × (동시 실행 묶음 수 + 여유 1) 입니다 (python fetcher, 11개 카테고리 : 90초 × 4).
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CardCrawler {
+    private static final int FETCH_PARALLELISM = 4;
+    private static final String LIST_URL = "https://card-search.naver.com/list?sortMethod=qc&isRefetch=true&bizType=CPC&benefitCategoryIds=";
+
+    // 가계부 지출 카테고리 이름 -> 카드 검색 혜택 카테고리 id
+    public static final Map<String, String> CATEGORY_URLS;
+
+    static {
+        Map<String, String> categoryUrls = new LinkedHashMap<>();
+        categoryUrls.put("주유", LIST_URL + "1");
+        categoryUrls.put("식비", LIST_URL + "14");
+        categoryUrls.put("문화/레저", LIST_URL + "18%2C19");
+        categoryUrls.put("마트/편의점", LIST_URL + "7%2C16");
+        categoryUrls.put("패션/미용", LIST_URL + "20");
+        categoryUrls.put("여행/숙박", LIST_URL + "4");
+        categoryUrls.put("교통/차량", LIST_URL + "15");
+        categoryUrls.put("주거", LIST_URL + "8");
+        categoryUrls.put("의료비", LIST_URL + "21");
+        categoryUrls.put("교육", LIST_URL + "9");
+        categoryUrls.put("반려동물", LIST_URL + "10021");
+        CATEGORY_URLS = Collections.unmodifiableMap(categoryUrls);
+    }
+
+    private final CardPageFetcher cardPageFetcher;
+
+    public CardCrawlResult crawl() throws InterruptedException {
+        return crawl(CATEGORY_URLS, category -> { });
+    }
+
+    // onCategoryDone : 카테고리 하나를 가져왔거나 실패할 때마다 호출 (진행 상황 표시용)
+    public CardCrawlResult crawl(Map<String, String> categoryUrls, Consumer<String> onCategoryDone) throws InterruptedException {
+        ExecutorService executor = newExecutor();
+        try {
+            Map<String, Future<List<CardDto>>> futures = new LinkedHashMap<>();
+            for (Map.Entry<String, String> entry : categoryUrls.entrySet()) {
+                futures.put(entry.getKey(), executor.submit(() -> {
+                    try {
+                        return CardPageParser.parse(cardPageFetcher.fetch(entry.getValue()), entry.getKey());
+                    } finally {
+                        onCategoryDone.accept(entry.getKey());
+                    }
+                }));
+            }
+
+            CardCrawlResult result = new CardCrawlResult();
+            long timeoutSeconds = crawlTimeoutSeconds(categoryUrls.size());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            for (Map.Entry<String, Future<List<CardDto>>> entry : futures.entrySet()) {
+                String category = entry.getKey();
+                try {
+                    List<CardDto> cards = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (cards.isEmpty()) {
+                        // 페이지 구조가 바뀌었거나 차단된 경우 기존 카드를 모두 지우지 않도록 실패로 처리
+                        log.warn("카드 크롤링 결과 없음 - 카테고리: {}", category);
+                        result.getFailedCategories().add(category);
+                    } else {
+                        result.getCardsByCategory().put(category, cards);
+                    }
+                } catch (ExecutionException e) {
+                    log.warn("카드 크롤링 실패 - 카테고리: {}, 원인: {}", category, e.getCause().toString());
+                    result.getFailedCategories().add(category);
+                } catch (TimeoutException e) {
+                    entry.getValue().cancel(true);
+                    result.getFailedCategories().add(category);
+                    result.getTimedOutCategories().add(category);
+                }
+            }
+            if (!result.getTimedOutCategories().isEmpty()) {
+                // 기존 카드가 그대로 남으므로 어떤 카테고리가 갱신되지 않았는지 남김
+                log.warn("카드 크롤링 시간 제한({}초)으로 건너뛴 카테고리: {}", timeoutSeconds, result.getTimedOutCategories());
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long crawlTimeoutSeconds(int categoryCount) {
+        long waves = Math.max(1, (categoryCount + FETCH_PARALLELISM - 1) / FETCH_PARALLELISM);
+        return cardPageFetcher.fetchTimeoutSeconds() * (waves + 1);
+    }
+
+    private static ExecutorService newExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(FETCH_PARALLELISM, runnable -> {
+            Thread thread = new Thread(runnable, "card-crawler-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.MoneyPlant.service.crawler;
+
+// 카드 검색 결과 페이지 HTML 가져오기 (테스트에서는 저장된 HTML 로 대체)
+public interface CardPageFetcher {
+    String fetch(String url) throws Exception;
+
+    // 페이지 하나를 가져오는 데 걸릴 수 있는 최대 시간 (크롤링 전체 시간 제한 계산용)
+    default long fetchTimeoutSeconds() {
+        return 60;
+    }
+}
@@ -0,0 +1,159 @@
+package com.MoneyPlant.service.crawler;
+
+import com.MoneyPlant.dto.CardDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 카드 검색 결과 페이지 HTML -> 카드 목록
+// b.name / p.desc / i.annual_fee / img.img(src) / a.apply(href) 를 문서 순서대로 모아 같은 순번끼리 한 카드로 묶습니다.
+// 광고 항목(신용카드/이벤트카드)과 "월 평균 카드사용" 안내 문구는 제외합니다.
+public final class CardPageParser {
+    private static final Pattern ATTRIBUTE = Pattern.compile("([\\w-]+)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')");
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern NUMERIC_ENTITY = Pattern.compile("&#(?:[xX]([0-9a-fA-F]+)|([0-9]+));");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern B_TAG = openTag("b");
+    private static final Pattern P_TAG = openTag("p");
+    private static final Pattern I_TAG = openTag("i");
+    private static final Pattern IMG_TAG = openTag("img");
+    private static final Pattern A_TAG = openTag("a");
+
+    private CardPageParser() {
+    }
+
+    public static List<CardDto> parse(String html, String cardCategory) {
+        List<String> names = new ArrayList<>();
+        for (String name : texts(html, B_TAG, "b", "name")) {
+            if (!isAd(name)) {
+                names.add(name);
+            }
+        }
+        List<String> descs = new ArrayList<>();
+        for (String desc : texts(html, P_TAG, "p", "desc")) {
+            if (!desc.contains("월 평균 카드사용")) {
+                descs.add(desc);
+            }
+        }
+        List<String> annualFees = new ArrayList<>();
+        for (String annualFee : texts(html, I_TAG, "i", "annual_fee")) {
+            if (!isAd(annualFee)) {
+                annualFees.add(annualFee);
+            }
+        }
+        List<String> imgs = attributes(html, IMG_TAG, "img", "src");
+        List<String> links = attributes(html, A_TAG, "apply", "href");
+
+        int size = Math.min(Math.min(names.size(), descs.size()),
+                Math.min(annualFees.size(), Math.min(imgs.size(), links.size())));
+        List<CardDto> cards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            CardDto card = new CardDto();
+            card.setCardName(names.get(i));
+            card.setCardCategory(cardCategory);
+            card.setCardDesc(descs.get(i));
+            card.setCardImg(imgs.get(i));
+            card.setCardLink(links.get(i));
+            card.setCardAnnualFee(annualFees.get(i));
+            cards.add(card);
+        }
+        return cards;
+    }
+
+    private static boolean isAd(String text) {
+        return text.contains("신용카드") || text.contains("이벤트카드");
+    }
+
+    // class 가 cssClass 인 tag 요소들의 텍스트 (하위 태그 제거, 엔티티 해석, 공백 정리)
+    private static List<String> texts(String html, Pattern openTagPattern, String tag, String cssClass) {
+        List<String> texts = new ArrayList<>();
+        Matcher openTag = openTagPattern.matcher(html);
+        String closeTag = "</" + tag;
+        while (openTag.find()) {
+            if (!hasClass(openTag.group(1), cssClass)) {
+                continue;
+            }
+            int end = indexOfIgnoreCase(html, closeTag, openTag.end());
+            if (end < 0) {
+                break;
+            }
+            String text = TAG.matcher(html.substring(openTag.end(), end)).replaceAll("");
+            texts.add(WHITESPACE.matcher(unescape(text)).replaceAll(" ").trim());
+        }
+        return texts;
+    }
+
+    // class 가 cssClass 인 tag 요소들의 속성 값
+    private static List<String> attributes(String html, Pattern openTagPattern, String cssClass, String attributeName) {
+        List<String> values = new ArrayList<>();
+        Matcher openTag = openTagPattern.matcher(html);
+        while (openTag.find()) {
+            if (hasClass(openTag.group(1), cssClass)) {
+                String value = attribute(openTag.group(1), attributeName);
+                if (value != null) {
+                    values.add(unescape(value).trim());
+                }
+            }
+        }
+        return values;
+    }
+
+    // 여는 태그 (group 1 = 속성 부분)
+    private static Pattern openTag(String tag) {
+        return Pattern.compile("<" + tag + "\\b([^>]*)>", Pattern.CASE_INSENSITIVE);
+    }
+
+    private static boolean hasClass(String attributes, String cssClass) {
+        String classes = attribute(attributes, "class");
+        if (classes == null) {
+            return false;
+        }
+        for (String name : WHITESPACE.split(classes.trim())) {
+            if (name.equals(cssClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String attribute(String attributes, String attributeName) {
+        Matcher matcher = ATTRIBUTE.matcher(attributes);
+        while (matcher.find()) {
+            if (matcher.group(1).equalsIgnoreCase(attributeName)) {
+                return matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+            }
+        }
+        return null;
+    }
+
+    private static int indexOfIgnoreCase(String text, String target, int from) {
+        for (int i = from; i <= text.length() - target.length(); i++) {
+            if (text.regionMatches(true, i, target, 0, target.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String unescape(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        Matcher numeric = NUMERIC_ENTITY.matcher(text);
+        StringBuffer decoded = new StringBuffer();
+        while (numeric.find()) {
+            int codePoint = numeric.group(1) != null
+                    ? Integer.parseInt(numeric.group(1), 16) : Integer.parseInt(numeric.group(2));
+            numeric.appendReplacement(decoded, Matcher.quoteReplacement(new String(Character.toChars(codePoint))));
+        }
+        numeric.appendTail(decoded);
+        return decoded.toString()
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&amp;", "&");
+    }
+}
@@ -0,0 +1,47 @@
+package com.MoneyPlant.service.crawler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+// HTTP GET 으로 페이지 HTML 을 가져옴 (연결 / 읽기 시간 제한)
+// 서버가 처음 응답에 넣어 주는 카드만 보이고 '더보기'는 누를 수 없으므로 app.card-crawler.fetcher=http 일 때만 사용
+@Component
+@ConditionalOnProperty(prefix = "app.card-crawler", name = "fetcher", havingValue = "http")
+public class HttpCardPageFetcher implements CardPageFetcher {
+    private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+    private static final int READ_TIMEOUT_MILLIS = 20_000;
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; MoneyPlant card crawler)";
+
+    private final RestTemplate restTemplate;
+
+    public HttpCardPageFetcher() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        requestFactory.setReadTimeout(READ_TIMEOUT_MILLIS);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    // URI 템플릿으로 해석하면 %2C 같은 인코딩이 한 번 더 인코딩되므로 URI 로 그대로 전달
+    @Override
+    public String fetch(String url) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.USER_AGENT, USER_AGENT);
+        ResponseEntity<byte[]> response = restTemplate.exchange(URI.create(url), HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+        byte[] body = response.getBody();
+        return body != null ? new String(body, StandardCharsets.UTF_8) : "";
+    }
+
+    @Override
+    public long fetchTimeoutSeconds() {
+        return (CONNECT_TIMEOUT_MILLIS + READ_TIMEOUT_MILLIS) / 1000;
+    }
+}
@@ -0,0 +1,111 @@
+package com.MoneyPlant.service.crawler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// python/CardCrolling.py --fetch 로 브라우저(Selenium)에서 '더보기'를 누른 뒤의 HTML 을 가져옴 (기본 fetcher)
+// 카드 검색 페이지는 처음 응답에 일부 카드만 들어 있어서, 렌더링/JSON 기반 fetcher 가 생기기 전까지는 이 방식을 사용합니다.
+// 파싱과 card_list 반영은 서버(CardPageParser, CardCatalogUpdater)에서 하고, 스크립트는 DB 에 접근하지 않습니다.
+// app.card-crawler.fetcher=http 이면 HttpCardPageFetcher 를 대신 사용합니다.
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.card-crawler", name = "fetcher", havingValue = "python", matchIfMissing = true)
+public class PythonCardPageFetcher implements CardPageFetcher {
+    private static final String SCRIPT_RESOURCE = "/python/CardCrolling.py";
+    private static final long PROCESS_TIMEOUT_SECONDS = 90;
+
+    // 카테고리 페이지별 '더보기' 클릭 횟수 (기존 스크립트 값)
+    private static final Map<String, Integer> MORE_BUTTON_CLICKS;
+
+    static {
+        Map<String, Integer> clicks = new HashMap<>();
+        clicks.put(CardCrawler.CATEGORY_URLS.get("주유"), 10);
+        clicks.put(CardCrawler.CATEGORY_URLS.get("식비"), 9);
+        clicks.put(CardCrawler.CATEGORY_URLS.get("문화/레저"), 3);
+        clicks.put(CardCrawler.CATEGORY_URLS.get("마트/편의점"), 4);
+        clicks.put(CardCrawler.CATEGORY_URLS.get("패션/미용"), 3);
+        clicks.put(CardCrawler.CATEGORY_URLS.get("여행/숙박"), 3);
+        clicks.put(CardCrawler.CATEGORY_URLS.get("교통/차량"), 10);
+        clicks.put(CardCrawler.CATEGORY_URLS.get("주거"), 2);
+        clicks.put(CardCrawler.CATEGORY_URLS.get("의료비"), 3);
+        clicks.put(CardCrawler.CATEGORY_URLS.get("교육"), 3);
+        clicks.put(CardCrawler.CATEGORY_URLS.get("반려동물"), 0);
+        MORE_BUTTON_CLICKS = Collections.unmodifiableMap(clicks);
+    }
+
+    private final String pythonCommand;
+    private volatile File script;
+
+    public PythonCardPageFetcher(@Value("${app.card-crawler.python:python}") String pythonCommand) {
+        this.pythonCommand = pythonCommand;
+    }
+
+    @Override
+    public String fetch(String url) throws IOException, InterruptedException {
+        File output = File.createTempFile("card-page-", ".html");
+        try {
+            Process process = new ProcessBuilder(pythonCommand, script().getAbsolutePath(), "--fetch", url,
+                    String.valueOf(MORE_BUTTON_CLICKS.getOrDefault(url, 0)))
+                    .redirectOutput(output)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            try {
+                if (!process.waitFor(PROCESS_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new IOException("CardCrolling.py 시간 초과: " + url);
+                }
+            } finally {
+                // 시간 초과나 중단(크롤링 전체 시간 초과 시 cancel)으로 나가면 브라우저 프로세스를 남기지 않음
+                process.destroyForcibly();
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException("CardCrolling.py 실행 실패 - 종료 코드: " + process.exitValue() + ", url: " + url);
+            }
+            return new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8);
+        } finally {
+            if (!output.delete()) {
+                output.deleteOnExit();
+            }
+        }
+    }
+
+    @Override
+    public long fetchTimeoutSeconds() {
+        return PROCESS_TIMEOUT_SECONDS;
+    }
+
+    // jar 안의 스크립트는 python 이 바로 읽을 수 없으므로 처음 한 번 임시 파일로 꺼내 둠
+    private File script() throws IOException {
+        File current = script;
+        if (current != null && current.exists()) {
+            return current;
+        }
+        synchronized (this) {
+            if (script == null || !script.exists()) {
+                File file = File.createTempFile("CardCrolling", ".py");
+                file.deleteOnExit();
+                try (InputStream inputStream = PythonCardPageFetcher.class.getResourceAsStream(SCRIPT_RESOURCE)) {
+                    if (inputStream == null) {
+                        throw new IOException("스크립트 없음: " + SCRIPT_RESOURCE);
+                    }
+                    Files.copy(inputStream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+                script = file;
+                log.info("카드 크롤링 스크립트 준비 - {}", file.getAbsolutePath());
+            }
+            return script;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.MoneyPlant.service.lease;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 보유 중인 실행권 (close 하면 반납, 그 전까지는 주기적으로 연장)
+public class HeldLease implements AutoCloseable {
+    private final JobLeaseService jobLeaseService;
+    private final String jobName;
+    private final long acquiredAtMillis;
+    private final Runnable onLost;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile boolean lost;
+    private volatile ScheduledFuture<?> heartbeat;
+
+    HeldLease(JobLeaseService jobLeaseService, String jobName, Runnable onLost) {
+        this.jobLeaseService = jobLeaseService;
+        this.jobName = jobName;
+        this.acquiredAtMillis = System.currentTimeMillis();
+        this.onLost = onLost;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    // 연장에 실패해 다른 서버로 넘어갔을 수 있으면 false
+    public boolean isHeld() {
+        return !lost && !released.get();
+    }
+
+    long getAcquiredAtMillis() {
+        return acquiredAtMillis;
+    }
+
+    void setHeartbeat(ScheduledFuture<?> heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    void markLost() {
+        if (!lost && !released.get()) {
+            lost = true;
+            heartbeat.cancel(false);
+            onLost.run();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            heartbeat.cancel(false);
+            jobLeaseService.release(this, lost);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.MoneyPlant.service.lease;
+
+import com.MoneyPlant.entity.JobLease;
+import com.MoneyPlant.repository.JobLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 여러 서버 중 한 곳에서만 예약 작업을 실행하기 위한 DB 실행권(lease)
+// job_lease 의 작업 행을 만료된 경우에만 UPDATE 로 가져가고, 보유 중에는 leaseDuration / 3 마다 연장합니다.
+// 서버가 죽으면 연장이 멈춰 leaseDuration 뒤에 다른 서버가 가져갈 수 있습니다.
+// 만료 판단은 각 서버 시각 기준이므로 서버 간 시각 차이가 leaseDuration 보다 충분히 작아야 합니다 (NTP 동기화).
+//
+// 사용법 : tryAcquire 로 받은 HeldLease 를 작업이 끝날 때 close (CardCrawlJob 참고)
+@Service
+@Slf4j
+public class JobLeaseService {
+    // 서버(프로세스) 식별자 : pid@host + 재시작 구분용 임의 값
+    private static final String OWNER = ManagementFactory.getRuntimeMXBean().getName()
+            + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService heartbeatExecutor = newExecutor();
+    private final ConcurrentMap<String, LeaseStats> stats = new ConcurrentHashMap<>();
+    private final Set<HeldLease> heldLeases = ConcurrentHashMap.newKeySet();
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository, PlatformTransactionManager transactionManager) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        // 바깥 트랜잭션과 관계없이 바로 커밋 (primary 에서 실행)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Optional<HeldLease> tryAcquire(String jobName, Duration leaseDuration) {
+        return tryAcquire(jobName, leaseDuration, () -> { });
+    }
+
+    // 실행권 획득 시도 (다른 서버가 보유 중이거나 DB 오류면 빈 값)
+    // onLost : 연장에 실패했을 때 호출 (작업 중단 등)
+    public Optional<HeldLease> tryAcquire(String jobName, Duration leaseDuration, Runnable onLost) {
+        LeaseStats leaseStats = statsOf(jobName);
+        leaseStats.attempts.incrementAndGet();
+        long startedAt = System.nanoTime();
+
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                LocalDateTime now = now();
+                jobLeaseRepository.insertIfAbsent(jobName, now);
+                return jobLeaseRepository.acquire(jobName, OWNER, now, now.plus(leaseDuration)) == 1;
+            }));
+        } catch (Exception e) {
+            leaseStats.errors.incrementAndGet();
+            log.error("작업 실행권 획득 실패 - 작업: {}", jobName, e);
+            return Optional.empty();
+        } finally {
+            leaseStats.acquireNanos.addAndGet(System.nanoTime() - startedAt);
+        }
+
+        if (!acquired) {
+            leaseStats.busy.incrementAndGet();
+            log.info("다른 서버가 실행 중이라 건너뜀 - 작업: {}", jobName);
+            return Optional.empty();
+        }
+
+        leaseStats.acquired.incrementAndGet();
+        leaseStats.lastAcquiredAt = LocalDateTime.now();
+        leaseStats.holding.set(true);
+        HeldLease lease = new HeldLease(this, jobName, onLost);
+        long heartbeatMillis = Math.max(1000, leaseDuration.toMillis() / 3);
+        lease.setHeartbeat(heartbeatExecutor.scheduleWithFixedDelay(() -> heartbeat(lease, leaseDuration),
+                heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS));
+        heldLeases.add(lease);
+        log.info("작업 실행권 획득 - 작업: {}, 서버: {}", jobName, OWNER);
+        return Optional.of(lease);
+    }
+
+    // 작업별 획득 / 보유 시간 통계 (관리자 조회용)
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("owner", OWNER);
+        Map<String, Object> jobs = new TreeMap<>();
+        for (Map.Entry<String, LeaseStats> entry : stats.entrySet()) {
+            jobs.put(entry.getKey(), entry.getValue().toMap());
+        }
+        result.put("jobs", jobs);
+        return result;
+    }
+
+    // DB 에 기록된 작업별 현재 실행권
+    public List<Map<String, Object>> getLeases() {
+        LocalDateTime now = now();
+        List<Map<String, Object>> leases = new ArrayList<>();
+        for (JobLease jobLease : transactionTemplate.execute(status -> jobLeaseRepository.findAll())) {
+            Map<String, Object> lease = new LinkedHashMap<>();
+            lease.put("jobName", jobLease.getJobName());
+            lease.put("owner", jobLease.getOwner());
+            lease.put("acquiredAt", jobLease.getAcquiredAt());
+            lease.put("heartbeatAt", jobLease.getHeartbeatAt());
+            lease.put("leaseUntil", jobLease.getLeaseUntil());
+            lease.put("held", jobLease.getLeaseUntil().isAfter(now));
+            lease.put("heldByThisServer", OWNER.equals(jobLease.getOwner()) && jobLease.getLeaseUntil().isAfter(now));
+            leases.add(lease);
+        }
+        return leases;
+    }
+
+    void release(HeldLease lease, boolean lost) {
+        heldLeases.remove(lease);
+        LeaseStats leaseStats = statsOf(lease.getJobName());
+        long holdMillis = System.currentTimeMillis() - lease.getAcquiredAtMillis();
+        leaseStats.holding.set(false);
+        leaseStats.released.incrementAndGet();
+        leaseStats.lastHoldMillis = holdMillis;
+        leaseStats.totalHoldMillis.addAndGet(holdMillis);
+        leaseStats.maxHoldMillis.accumulateAndGet(holdMillis, Math::max);
+        if (lost) {
+            return; // 이미 다른 서버로 넘어갔을 수 있으므로 반납하지 않음
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jobLeaseRepository.release(lease.getJobName(), OWNER, now()));
+            log.info("작업 실행권 반납 - 작업: {}, 보유 {}ms", lease.getJobName(), holdMillis);
+        } catch (Exception e) {
+            // 반납하지 못해도 leaseDuration 이 지나면 만료됨
+            log.warn("작업 실행권 반납 실패 - 작업: {}", lease.getJobName(), e);
+        }
+    }
+
+    private void heartbeat(HeldLease lease, Duration leaseDuration) {
+        boolean extended;
+        try {
+            extended = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                LocalDateTime now = now();
+                return jobLeaseRepository.extend(lease.getJobName(), OWNER, now, now.plus(leaseDuration)) == 1;
+            }));
+        } catch (Exception e) {
+            // 일시적인 DB 오류는 다음 연장에서 다시 시도 (leaseDuration 안에 회복하면 유지)
+            statsOf(lease.getJobName()).errors.incrementAndGet();
+            log.warn("작업 실행권 연장 실패 - 작업: {}", lease.getJobName(), e);
+            return;
+        }
+        if (!extended) {
+            statsOf(lease.getJobName()).lost.incrementAndGet();
+            log.error("작업 실행권을 잃었습니다 - 작업: {}", lease.getJobName());
+            lease.markLost();
+        }
+    }
+
+    // DB 시각 컬럼 정밀도(MySQL DATETIME 은 초 단위, 반올림 저장)에 맞춰 초 단위로 비교
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private LeaseStats statsOf(String jobName) {
+        return stats.computeIfAbsent(jobName, name -> new LeaseStats());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 종료 시 보유 중인 실행권은 반납해서 다른 서버가 바로 가져갈 수 있게 함
+        for (HeldLease lease : new ArrayList<>(heldLeases)) {
+            lease.close();
+        }
+        heartbeatExecutor.shutdownNow();
+    }
+
+    private static ScheduledExecutorService newExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 작업별 통계
+    private static class LeaseStats {
+        private final AtomicLong attempts = new AtomicLong();  // 획득 시도
+        private final AtomicLong acquired = new AtomicLong();  // 획득 성공
+        private final AtomicLong busy = new AtomicLong();      // 다른 서버 보유로 건너뜀
+        private final AtomicLong errors = new AtomicLong();    // 획득 / 연장 중 DB 오류
+        private final AtomicLong lost = new AtomicLong();      // 보유 중 잃음
+        private final AtomicLong released = new AtomicLong();  // 작업 종료로 반납
+        private final AtomicLong acquireNanos = new AtomicLong();
+        private final AtomicLong totalHoldMillis = new AtomicLong();
+        private final AtomicLong maxHoldMillis = new AtomicLong();
+        private final AtomicBoolean holding = new AtomicBoolean();
+        private volatile long lastHoldMillis;
+        private volatile LocalDateTime lastAcquiredAt;
+
+        private Map<String, Object> toMap() {
+            long attemptCount = attempts.get();
+            long releasedCount = released.get();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("attempts", attemptCount);
+            result.put("acquired", acquired.get());
+            result.put("busy", busy.get());
+            result.put("errors", errors.get());
+            result.put("lost", lost.get());
+            result.put("avgAcquireMillis", attemptCount == 0 ? 0 : acquireNanos.get() / attemptCount / 1_000_000.0);
+            result.put("holding", holding.get());
+            result.put("lastAcquiredAt", lastAcquiredAt);
+            result.put("lastHoldMillis", lastHoldMillis);
+            result.put("avgHoldMillis", releasedCount == 0 ? 0 : totalHoldMillis.get() / releasedCount);
+            result.put("maxHoldMillis", maxHoldMillis.get());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.MoneyPlant.service.recommend;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 크롤링한 카드 혜택 문구(card_desc) / 연회비 문구(card_annual_fee) 해석
+// 문구 형식이 카드사마다 달라서 확실히 읽을 수 있는 값만 사용하고, 못 읽으면 0 으로 둡니다.
+public final class CardBenefitParser {
+    private static final double MAX_RATE = 0.5;            // 비정상적으로 큰 할인율은 50% 로 제한
+    private static final double FUEL_PRICE_PER_LITER = 1700; // 리터당 할인 금액 -> 할인율 환산 기준 (원)
+
+    private static final Pattern PERCENT = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*%");
+    private static final Pattern PER_LITER = Pattern.compile("리터당\\s*(?:최대\\s*)?([\\d,]+)\\s*원");
+    private static final Pattern MANWON = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*만\\s*원");
+    private static final Pattern WON = Pattern.compile("(\\d{1,3}(?:,\\d{3})+|\\d+)\\s*원");
+    // "월 최대 1만원 할인", "월 할인한도 5,000원", "월 통합 한도 5천원"
+    private static final Pattern MONTHLY_CAP = Pattern.compile(
+            "월\\s*(?:최대|(?:통합\\s*)?(?:할인|적립)?\\s*한도)\\s*(?:최대\\s*)?(\\d{1,3}(?:,\\d{3})+|\\d+(?:\\.\\d+)?)\\s*(만|천)?\\s*원");
+
+    private CardBenefitParser() {
+    }
+
+    // 혜택 문구 -> 할인/적립율 (0 ~ MAX_RATE)
+    // 예) "모든 가맹점 0.7% 적립" -> 0.007, "주유 리터당 최대 100원 할인" -> 100 / 1700
+    public static double parseRate(String cardDesc) {
+        if (cardDesc == null) {
+            return 0;
+        }
+        double rate = 0;
+        Matcher percent = PERCENT.matcher(cardDesc);
+        while (percent.find()) {
+            rate = Math.max(rate, Double.parseDouble(percent.group(1)) / 100);
+        }
+        Matcher perLiter = PER_LITER.matcher(cardDesc);
+        while (perLiter.find()) {
+            rate = Math.max(rate, Long.parseLong(perLiter.group(1).replace(",", "")) / FUEL_PRICE_PER_LITER);
+        }
+        return Math.min(rate, MAX_RATE);
+    }
+
+    // 혜택 문구 -> 월 최대 혜택 금액 (원, 한도 문구가 없으면 0 = 한도 없음)
+    // 예) "커피 10% 할인 (월 최대 1만원)" -> 10000, "월 할인한도 5,000원" -> 5000, "월 최대 5천원" -> 5000
+    public static long parseMonthlyCap(String cardDesc) {
+        if (cardDesc == null) {
+            return 0;
+        }
+        long cap = 0;
+        Matcher monthlyCap = MONTHLY_CAP.matcher(cardDesc);
+        while (monthlyCap.find()) {
+            double amount = Double.parseDouble(monthlyCap.group(1).replace(",", ""));
+            String unit = monthlyCap.group(2);
+            long won = Math.round("만".equals(unit) ? amount * 10000 : "천".equals(unit) ? amount * 1000 : amount);
+            // 한 문구에 한도가 여러 번 나오면 가장 작은 한도 (보수적으로 계산)
+            cap = cap == 0 ? won : Math.min(cap, won);
+        }
+        return cap;
+    }
+
+    // 연회비 문구 -> 연회비 (원, 국내전용/해외겸용처럼 여러 금액이면 가장 싼 금액)
+    // 예) "국내전용 10,000원 | 해외겸용 12,000원" -> 10000, "1만원" -> 10000
+    public static long parseAnnualFee(String cardAnnualFee) {
+        if (cardAnnualFee == null) {
+            return 0;
+        }
+        long fee = Long.MAX_VALUE;
+        Matcher manwon = MANWON.matcher(cardAnnualFee);
+        while (manwon.find()) {
+            fee = Math.min(fee, Math.round(Double.parseDouble(manwon.group(1)) * 10000));
+        }
+        Matcher won = WON.matcher(MANWON.matcher(cardAnnualFee).replaceAll(""));
+        while (won.find()) {
+            fee = Math.min(fee, Long.parseLong(won.group(1).replace(",", "")));
+        }
+        return fee == Long.MAX_VALUE ? 0 : fee;
+    }
+}
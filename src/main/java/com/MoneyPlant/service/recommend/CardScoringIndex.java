@@ -0,0 +1,190 @@
+package com.MoneyPlant.service.recommend;
+
+import com.MoneyPlant.dto.CardDto;
+import com.MoneyPlant.dto.CardScoreDto;
+
+import java.util.*;
+
+// 카드별 카테고리 혜택율 벡터 (크롤링 한 번에 한 번 생성, 이후 읽기 전용)
+// rates[card * categoryCount + category] 형태의 1차원 배열이라 점수 계산 시 객체 생성이나 맵 조회가 없습니다.
+// caps 는 같은 위치의 월 최대 혜택 금액 (0 이면 한도 없음) 입니다.
+public final class CardScoringIndex {
+    private static final CardScoringIndex EMPTY = new CardScoringIndex(
+            Collections.emptyMap(), new CardDto[0], Collections.emptyList(), new double[0], new long[0], new long[0]);
+
+    private final Map<String, Integer> categoryIndex; // 카드 카테고리 이름 -> 열 번호
+    private final CardDto[] cards;                    // 카드 이름별 첫 번째 행
+    private final List<List<String>> cardDescLists;
+    private final double[] rates;
+    private final long[] caps;
+    private final long[] monthlyFees;
+
+    private CardScoringIndex(Map<String, Integer> categoryIndex, CardDto[] cards, List<List<String>> cardDescLists,
+                             double[] rates, long[] caps, long[] monthlyFees) {
+        this.categoryIndex = categoryIndex;
+        this.cards = cards;
+        this.cardDescLists = cardDescLists;
+        this.rates = rates;
+        this.caps = caps;
+        this.monthlyFees = monthlyFees;
+    }
+
+    public static CardScoringIndex empty() {
+        return EMPTY;
+    }
+
+    // card_list 행 (card_id 순) -> 카드 이름 하나당 벡터 하나
+    public static CardScoringIndex build(List<CardDto> rows) {
+        Map<String, Integer> categoryIndex = new LinkedHashMap<>();
+        Map<String, List<CardDto>> rowsByName = new LinkedHashMap<>();
+        for (CardDto row : rows) {
+            if (row.getCardName() == null || row.getCardCategory() == null) {
+                continue;
+            }
+            categoryIndex.putIfAbsent(row.getCardCategory(), categoryIndex.size());
+            rowsByName.computeIfAbsent(row.getCardName(), name -> new ArrayList<>()).add(row);
+        }
+
+        int categoryCount = categoryIndex.size();
+        int cardCount = rowsByName.size();
+        CardDto[] cards = new CardDto[cardCount];
+        List<List<String>> cardDescLists = new ArrayList<>(cardCount);
+        double[] rates = new double[cardCount * categoryCount];
+        long[] caps = new long[cardCount * categoryCount];
+        long[] monthlyFees = new long[cardCount];
+
+        int card = 0;
+        for (List<CardDto> cardRows : rowsByName.values()) {
+            cards[card] = cardRows.get(0);
+            List<String> cardDescList = new ArrayList<>();
+            for (CardDto row : cardRows) {
+                int offset = card * categoryCount + categoryIndex.get(row.getCardCategory());
+                // 같은 카테고리 행이 여러 개면 혜택율이 가장 높은 행의 한도를 함께 사용
+                double rate = CardBenefitParser.parseRate(row.getCardDesc());
+                if (rate > rates[offset]) {
+                    rates[offset] = rate;
+                    caps[offset] = CardBenefitParser.parseMonthlyCap(row.getCardDesc());
+                }
+                cardDescList.add(row.getCardDesc());
+            }
+            cardDescLists.add(Collections.unmodifiableList(cardDescList));
+            monthlyFees[card] = CardBenefitParser.parseAnnualFee(cards[card].getCardAnnualFee()) / 12;
+            card++;
+        }
+
+        return new CardScoringIndex(Collections.unmodifiableMap(categoryIndex), cards,
+                Collections.unmodifiableList(cardDescLists), rates, caps, monthlyFees);
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    // 월 지출(카테고리 이름 -> 금액) 기준 순혜택(min(혜택율 · 지출, 월 한도) - 월 연회비) 상위 limit 개
+    // 지출이 있는 열만 곱하고, 크기 limit 의 최소 힙으로 상위만 남깁니다.
+    public List<CardScoreDto> topK(Map<String, Long> monthlySpend, int limit) {
+        int categoryCount = categoryIndex.size();
+        int[] spendColumns = new int[categoryCount];
+        double[] spendAmounts = new double[categoryCount];
+        int spendCount = 0;
+        for (Map.Entry<String, Long> entry : monthlySpend.entrySet()) {
+            Integer column = categoryIndex.get(entry.getKey());
+            if (column != null && entry.getValue() != null && entry.getValue() > 0) {
+                spendColumns[spendCount] = column;
+                spendAmounts[spendCount] = entry.getValue();
+                spendCount++;
+            }
+        }
+
+        int heapCapacity = Math.min(Math.max(limit, 0), cards.length);
+        int[] heapCards = new int[heapCapacity];
+        double[] heapScores = new double[heapCapacity];
+        int heapSize = 0;
+
+        for (int card = 0; card < cards.length; card++) {
+            int base = card * categoryCount;
+            double score = -monthlyFees[card];
+            for (int i = 0; i < spendCount; i++) {
+                int offset = base + spendColumns[i];
+                double benefit = rates[offset] * spendAmounts[i];
+                score += caps[offset] > 0 ? Math.min(benefit, caps[offset]) : benefit;
+            }
+
+            if (heapSize < heapCapacity) {
+                heapCards[heapSize] = card;
+                heapScores[heapSize] = score;
+                siftUp(heapCards, heapScores, heapSize++);
+            } else if (heapCapacity > 0 && score > heapScores[0]) {
+                heapCards[0] = card;
+                heapScores[0] = score;
+                siftDown(heapCards, heapScores, heapSize);
+            }
+        }
+
+        // 힙에서 작은 값부터 꺼내 뒤에서부터 채우면 점수 높은 순
+        CardScoreDto[] result = new CardScoreDto[heapSize];
+        while (heapSize > 0) {
+            int card = heapCards[0];
+            double score = heapScores[0];
+            heapSize--;
+            heapCards[0] = heapCards[heapSize];
+            heapScores[0] = heapScores[heapSize];
+            siftDown(heapCards, heapScores, heapSize);
+            result[heapSize] = toDto(card, score);
+        }
+        return Arrays.asList(result);
+    }
+
+    private CardScoreDto toDto(int card, double score) {
+        CardDto cardDto = cards[card];
+        long netBenefit = Math.round(score);
+        return new CardScoreDto(cardDto.getCardName(), cardDto.getCardImg(), cardDto.getCardLink(),
+                cardDto.getCardAnnualFee(), cardDescLists.get(card),
+                netBenefit + monthlyFees[card], monthlyFees[card], netBenefit);
+    }
+
+    // 점수가 같으면 card_id 가 늦은 카드가 먼저 밀려나도록 (앞 카드 우선)
+    private static boolean lower(int[] heapCards, double[] heapScores, int a, int b) {
+        return heapScores[a] < heapScores[b] || (heapScores[a] == heapScores[b] && heapCards[a] > heapCards[b]);
+    }
+
+    private static void siftUp(int[] heapCards, double[] heapScores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!lower(heapCards, heapScores, index, parent)) {
+                break;
+            }
+            swap(heapCards, heapScores, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heapCards, double[] heapScores, int size) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = index * 2 + 1;
+            int right = left + 1;
+            if (left < size && lower(heapCards, heapScores, left, smallest)) {
+                smallest = left;
+            }
+            if (right < size && lower(heapCards, heapScores, right, smallest)) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heapCards, heapScores, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] heapCards, double[] heapScores, int a, int b) {
+        int card = heapCards[a];
+        heapCards[a] = heapCards[b];
+        heapCards[b] = card;
+        double score = heapScores[a];
+        heapScores[a] = heapScores[b];
+        heapScores[b] = score;
+    }
+}
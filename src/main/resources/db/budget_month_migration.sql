@@ -0,0 +1,13 @@
+-- 예산을 (사용자, 카테고리, 월) 단위로 저장하도록 전환
+-- 기존 예산 달을 그 달 1일 00:00 으로 맞추고, 같은 (사용자, 카테고리, 월) 중복은 가장 최근 행만 남긴 뒤 유니크 키를 추가합니다.
+-- ddl-auto=update 는 중복 행이 있으면 유니크 키를 만들지 못하므로 배포 전에 한 번 실행합니다.
+
+UPDATE budget SET budget_month = DATE_FORMAT(budget_month, '%Y-%m-01 00:00:00');
+
+DELETE b1 FROM budget b1
+JOIN budget b2 ON b1.id = b2.id
+    AND b1.category_id = b2.category_id
+    AND b1.budget_month = b2.budget_month
+    AND b1.budget_id < b2.budget_id;
+
+ALTER TABLE budget ADD CONSTRAINT uk_budget_user_category_month UNIQUE (id, category_id, budget_month);
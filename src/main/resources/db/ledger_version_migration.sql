@@ -0,0 +1,5 @@
+-- income, expense 낙관적 잠금(version) 컬럼 추가
+-- ddl-auto=update 는 NOT NULL 컬럼을 기존 행이 있는 테이블에 추가하지 못하므로 배포 전에 한 번 실행합니다.
+
+ALTER TABLE income ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE expense ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
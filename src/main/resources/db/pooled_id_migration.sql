@@ -0,0 +1,38 @@
+-- 공용 hibernate_sequence -> 엔티티별 id 시퀀스 테이블(pooled-lo, allocationSize 50) 전환
+-- 각 테이블의 next_val 은 다음에 발급할 id 이므로 현재 최대 id + 1 로 시작합니다.
+-- ddl-auto=update 가 시퀀스 테이블을 먼저 만들면 1부터 시작해 기존 id 와 충돌하므로 배포 전에 한 번 실행합니다.
+
+CREATE TABLE income_seq (next_val BIGINT);
+INSERT INTO income_seq SELECT COALESCE(MAX(income_id), 0) + 1 FROM income;
+
+CREATE TABLE expense_seq (next_val BIGINT);
+INSERT INTO expense_seq SELECT COALESCE(MAX(expense_id), 0) + 1 FROM expense;
+
+CREATE TABLE schedule_seq (next_val BIGINT);
+INSERT INTO schedule_seq SELECT COALESCE(MAX(sc_id), 0) + 1 FROM schedule;
+
+CREATE TABLE work_seq (next_val BIGINT);
+INSERT INTO work_seq SELECT COALESCE(MAX(work_id), 0) + 1 FROM work;
+
+CREATE TABLE my_schedule_seq (next_val BIGINT);
+INSERT INTO my_schedule_seq SELECT COALESCE(MAX(my_sc_id), 0) + 1 FROM my_schedule;
+
+CREATE TABLE my_work_seq (next_val BIGINT);
+INSERT INTO my_work_seq SELECT COALESCE(MAX(my_wk_id), 0) + 1 FROM my_work;
+
+CREATE TABLE check_seq (next_val BIGINT);
+INSERT INTO check_seq SELECT COALESCE(MAX(check_id), 0) + 1 FROM list;
+
+CREATE TABLE content_color_seq (next_val BIGINT);
+INSERT INTO content_color_seq SELECT COALESCE(MAX(color_id), 0) + 1 FROM content_color;
+
+CREATE TABLE oauth_token_seq (next_val BIGINT);
+INSERT INTO oauth_token_seq SELECT COALESCE(MAX(id), 0) + 1 FROM oauth_token;
+
+CREATE TABLE refresh_token_seq (next_val BIGINT);
+INSERT INTO refresh_token_seq SELECT COALESCE(MAX(id), 0) + 1 FROM refreshtoken;
+
+-- 예산은 AUTO_INCREMENT 로 전환
+ALTER TABLE budget MODIFY budget_id BIGINT NOT NULL AUTO_INCREMENT;
+
+-- category, category_income 은 초기값 저장용으로 계속 hibernate_sequence 를 사용합니다.
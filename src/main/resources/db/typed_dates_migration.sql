@@ -0,0 +1,15 @@
+-- 날짜 컬럼 문자열(VARCHAR) -> DATE 변환 및 (id, 날짜) 복합 인덱스 추가
+-- ddl-auto=update 는 기존 컬럼 타입을 바꾸지 않으므로 배포 전에 한 번 실행합니다.
+
+-- 구글 캘린더 연동 일정은 dateTime(2023-07-01T10:00:00+09:00) 형식이 저장되어 있을 수 있음
+UPDATE schedule SET sc_date = LEFT(sc_date, 10) WHERE LENGTH(sc_date) > 10;
+
+ALTER TABLE income MODIFY income_date DATE;
+ALTER TABLE expense MODIFY expense_date DATE;
+ALTER TABLE schedule MODIFY sc_date DATE NOT NULL;
+ALTER TABLE work MODIFY work_date DATE NOT NULL;
+
+CREATE INDEX idx_income_user_date ON income (id, income_date);
+CREATE INDEX idx_expense_user_date ON expense (id, expense_date);
+CREATE INDEX idx_schedule_user_date ON schedule (id, sc_date);
+CREATE INDEX idx_work_user_date ON work (id, work_date);
@@ -0,0 +1,16 @@
+package com.MoneyPlant;
+
+import java.sql.Date;
+
+// 테스트 H2 DB 에 등록하는 MySQL 함수 (src/test/resources/application.properties 참고)
+public class H2MySqlFunctions {
+
+    // DATE_FORMAT(date, '%Y-%m') -> yyyy-MM, 그 외 형식은 yyyy-MM-dd
+    public static String dateFormat(Date date, String pattern) {
+        if (date == null) {
+            return null;
+        }
+        String value = date.toLocalDate().toString();
+        return "%Y-%m".equals(pattern) ? value.substring(0, 7) : value;
+    }
+}
@@ -0,0 +1,169 @@
+package com.MoneyPlant.service;
+
+import com.MoneyPlant.constant.ELedgerType;
+import com.MoneyPlant.dto.LedgerImportResultDto;
+import com.MoneyPlant.entity.*;
+import com.MoneyPlant.repository.ExpenseRepository;
+import com.MoneyPlant.repository.IncomeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 내보내기(수입 + 지출) 결과를 그대로 대량 등록했을 때 같은 행이 만들어지는지 확인
+// 쉼표, 따옴표, 줄바꿈이 들어간 내용과 카테고리 이름을 포함합니다.
+class LedgerExportImportRoundTripTest {
+    private static final Long USER_ID = 1L;
+
+    private final List<Income> incomes = new ArrayList<>();
+    private final List<Expense> expenses = new ArrayList<>();
+    private final List<Object> persisted = new ArrayList<>();
+
+    private LedgerExportService ledgerExportService;
+    private LedgerImportService ledgerImportService;
+
+    @BeforeEach
+    void setUp() {
+        Category food = category(1L, "식비");
+        Category fuel = category(2L, "교통, 주유");
+        CategoryIncome salary = categoryIncome(1L, "급여");
+
+        incomes.add(income(10L, LocalDate.of(2023, 7, 1), 3_000_000, salary, "7월 급여"));
+        incomes.add(income(11L, LocalDate.of(2023, 7, 15), 50_000, salary, "보너스\n\"성과급\", 일부"));
+        expenses.add(expense(20L, LocalDate.of(2023, 7, 2), 12_000, food, "점심\r\n\"회식\", 2차"));
+        expenses.add(expense(21L, LocalDate.of(2023, 7, 3), 55_000, fuel, null));
+        expenses.add(expense(22L, LocalDate.of(2023, 7, 3), 0, food, ""));
+
+        IncomeRepository incomeRepository = mock(IncomeRepository.class);
+        ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+        when(incomeRepository.streamByUserId(eq(USER_ID), any(), any())).thenAnswer(invocation -> incomes.stream());
+        when(expenseRepository.streamByUserId(eq(USER_ID), any(), any())).thenAnswer(invocation -> expenses.stream());
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        EntityManager entityManager = mock(EntityManager.class);
+        doAnswer(invocation -> persisted.add(invocation.getArgument(0))).when(entityManager).persist(any());
+        when(entityManager.getReference(eq(Category.class), any()))
+                .thenAnswer(invocation -> category(invocation.getArgument(1), null));
+        when(entityManager.getReference(eq(CategoryIncome.class), any()))
+                .thenAnswer(invocation -> categoryIncome(invocation.getArgument(1), null));
+        when(entityManager.getReference(eq(User.class), any())).thenReturn(new User());
+
+        ReferenceDataRegistry referenceDataRegistry = mock(ReferenceDataRegistry.class);
+        when(referenceDataRegistry.getCategories()).thenReturn(Arrays.asList(food, fuel));
+        when(referenceDataRegistry.getCategoryIncomes()).thenReturn(Arrays.asList(salary));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ledgerExportService = new LedgerExportService(incomeRepository, expenseRepository, entityManager,
+                transactionManager, objectMapper);
+        ledgerImportService = new LedgerImportService(entityManager, new TransactionTemplate(transactionManager),
+                objectMapper, referenceDataRegistry, mock(LedgerRollupService.class));
+    }
+
+    @Test
+    void csvExportImportsBackToSameRows() throws IOException {
+        byte[] exported = export(LedgerExportService.FORMAT_CSV);
+
+        // 경로의 유형(지출)과 관계없이 type 열을 따름
+        LedgerImportResultDto result = ledgerImportService.importCsv(USER_ID, ELedgerType.EXPENSE,
+                new ByteArrayInputStream(exported));
+
+        assertImportedSameRows(result);
+    }
+
+    @Test
+    void ndjsonExportImportsBackToSameRows() throws IOException {
+        byte[] exported = export(LedgerExportService.FORMAT_NDJSON);
+
+        LedgerImportResultDto result = ledgerImportService.importJson(USER_ID, ELedgerType.INCOME,
+                new ByteArrayInputStream(exported));
+
+        assertImportedSameRows(result);
+    }
+
+    private byte[] export(String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ledgerExportService.export(USER_ID, null, format, null, null, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private void assertImportedSameRows(LedgerImportResultDto result) {
+        assertEquals(0, result.getFailedRows(), () -> String.valueOf(result.getErrors()));
+        assertEquals(incomes.size() + expenses.size(), result.getImportedRows());
+
+        List<String> expected = new ArrayList<>();
+        incomes.forEach(income -> expected.add(rowOf(income)));
+        expenses.forEach(expense -> expected.add(rowOf(expense)));
+
+        List<String> actual = new ArrayList<>();
+        for (Object entity : persisted) {
+            actual.add(entity instanceof Income ? rowOf((Income) entity) : rowOf((Expense) entity));
+        }
+        assertEquals(expected, actual);
+    }
+
+    // 빈 내용은 내보내기/등록 과정에서 null 과 구분하지 않음
+    private String rowOf(Income income) {
+        return "income|" + income.getIncomeDate() + "|" + income.getIncomeAmount() + "|"
+                + income.getCategoryIncome().getCategoryIncomeId() + "|" + contentOf(income.getIncomeContent());
+    }
+
+    private String rowOf(Expense expense) {
+        return "expense|" + expense.getExpenseDate() + "|" + expense.getExpenseAmount() + "|"
+                + expense.getCategory().getCategoryId() + "|" + contentOf(expense.getExpenseContent());
+    }
+
+    private String contentOf(String content) {
+        return content == null ? "" : content;
+    }
+
+    private static Category category(Long categoryId, String categoryName) {
+        Category category = new Category();
+        category.setCategoryId(categoryId);
+        category.setCategoryName(categoryName);
+        return category;
+    }
+
+    private static CategoryIncome categoryIncome(Long categoryIncomeId, String categoryIncomeName) {
+        CategoryIncome categoryIncome = new CategoryIncome();
+        categoryIncome.setCategoryIncomeId(categoryIncomeId);
+        categoryIncome.setCategoryIncomeName(categoryIncomeName);
+        return categoryIncome;
+    }
+
+    private static Income income(Long incomeId, LocalDate date, int amount, CategoryIncome categoryIncome, String content) {
+        Income income = new Income();
+        income.setIncomeId(incomeId);
+        income.setIncomeDate(date);
+        income.setIncomeAmount(amount);
+        income.setCategoryIncome(categoryIncome);
+        income.setIncomeContent(content);
+        return income;
+    }
+
+    private static Expense expense(Long expenseId, LocalDate date, int amount, Category category, String content) {
+        Expense expense = new Expense();
+        expense.setExpenseId(expenseId);
+        expense.setExpenseDate(date);
+        expense.setExpenseAmount(amount);
+        expense.setCategory(category);
+        expense.setExpenseContent(content);
+        return expense;
+    }
+}
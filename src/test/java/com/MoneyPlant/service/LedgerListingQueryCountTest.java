@@ -0,0 +1,120 @@
+package com.MoneyPlant.service;
+
+import com.MoneyPlant.dto.ExpenseDto;
+import com.MoneyPlant.dto.IncomeDto;
+import com.MoneyPlant.entity.*;
+import com.MoneyPlant.repository.*;
+import com.MoneyPlant.service.crawler.CardCrawlJob;
+import com.MoneyPlant.service.jwt.UserDetailsImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// 카테고리 포함 수입/지출 목록이 행 수와 관계없이 쿼리 1번으로 끝나는지 확인
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class LedgerListingQueryCountTest {
+    private static final int ROW_COUNT = 20;
+
+    // 시작 시 카드 크롤링이 다른 스레드에서 실행하는 SQL 이 통계에 섞이지 않도록 막음
+    @MockBean
+    private CardCrawlJob cardCrawlJob;
+    @Autowired
+    private CheckService checkService;
+    @Autowired
+    private CalendarService calendarService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private IncomeRepository incomeRepository;
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CategoryIncomeRepository categoryIncomeRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UserDetailsImpl userDetails;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("조회 테스트", "query-count-" + System.nanoTime() + "@test.com", "password"));
+        List<Category> categories = categoryRepository.findAll();
+        List<CategoryIncome> categoryIncomes = categoryIncomeRepository.findAll();
+
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Income income = new Income();
+            income.setUser(user);
+            income.setCategoryIncome(categoryIncomes.get(i % categoryIncomes.size()));
+            income.setIncomeAmount(1000 * (i + 1));
+            income.setIncomeDate(LocalDate.of(2023, 7, 1).plusDays(i));
+            income.setIncomeContent("수입 " + i);
+            incomeRepository.save(income);
+
+            Expense expense = new Expense();
+            expense.setUser(user);
+            expense.setCategory(categories.get(i % categories.size()));
+            expense.setExpenseAmount(500 * (i + 1));
+            expense.setExpenseDate(LocalDate.of(2023, 7, 1).plusDays(i));
+            expense.setExpenseContent("지출 " + i);
+            expenseRepository.save(expense);
+        }
+
+        // 영속성 컨텍스트를 비워서 실제 조회 쿼리만 세도록 함
+        entityManager.flush();
+        entityManager.clear();
+
+        userDetails = new UserDetailsImpl(user.getId(), user.getName(), user.getEmail(), user.getPassword(),
+                null, new SimpleGrantedAuthority("ROLE_USER"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void incomeWithCategoryUsesSingleQuery() {
+        List<IncomeDto> incomes = checkService.getIncomeWithCategory(userDetails);
+
+        assertEquals(ROW_COUNT, incomes.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        incomes.forEach(income -> assertNotNull(income.getCategoryIncomeName()));
+    }
+
+    @Test
+    void expenseWithCategoryUsesSingleQuery() {
+        List<ExpenseDto> expenses = checkService.getExpenseWithCategory(userDetails);
+
+        assertEquals(ROW_COUNT, expenses.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        expenses.forEach(expense -> assertNotNull(expense.getCategoryName()));
+    }
+
+    @Test
+    void calendarListingsUseOneQueryEach() {
+        calendarService.getIncomeWithCategory(userDetails);
+        calendarService.getExpenseWithCategory(userDetails);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
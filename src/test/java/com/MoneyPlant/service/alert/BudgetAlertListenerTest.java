@@ -0,0 +1,117 @@
+package com.MoneyPlant.service.alert;
+
+import com.MoneyPlant.entity.Budget;
+import com.MoneyPlant.entity.User;
+import com.MoneyPlant.repository.BudgetRepository;
+import com.MoneyPlant.repository.UserRepository;
+import com.MoneyPlant.service.MailService;
+import com.MoneyPlant.service.ReferenceDataRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 예산 기준선(80%, 100%)을 이번 지출로 새로 넘었을 때만 알림을 보내는지 확인
+class BudgetAlertListenerTest {
+    private static final Long USER_ID = 1L;
+    private static final Long CATEGORY_ID = 2L;
+    private static final LocalDate EXPENSE_DATE = LocalDate.of(2023, 7, 15);
+    private static final YearMonth MONTH = YearMonth.of(2023, 7);
+    private static final String EMAIL = "user@example.com";
+
+    private final BudgetRepository budgetRepository = mock(BudgetRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ReferenceDataRegistry referenceDataRegistry = mock(ReferenceDataRegistry.class);
+    private final MailService mailService = mock(MailService.class);
+
+    private BudgetAlertListener budgetAlertListener;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        User user = new User();
+        user.setId(USER_ID);
+        user.setEmail(EMAIL);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(referenceDataRegistry.getCategoryName(CATEGORY_ID)).thenReturn("식비");
+
+        budgetAlertListener = new BudgetAlertListener(budgetRepository, userRepository, referenceDataRegistry,
+                mailService, new TransactionTemplate(transactionManager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        budgetAlertListener.shutdown();
+    }
+
+    @Test
+    void alertsOnlyWhenThresholdIsFirstCrossed() {
+        givenBudget(1000);
+
+        budgetAlertListener.check(event(300, 700));  // 70%
+        verifyNoInteractions(mailService);
+
+        budgetAlertListener.check(event(100, 800));  // 70% -> 80%
+        verify(mailService).sendBudgetAlert(EMAIL, "식비", MONTH, 80, 1000L, 800L);
+
+        budgetAlertListener.check(event(150, 950));  // 이미 80% 이상, 100% 미만
+        budgetAlertListener.check(event(50, 1000));  // 95% -> 100%
+        verify(mailService).sendBudgetAlert(EMAIL, "식비", MONTH, 100, 1000L, 1000L);
+
+        budgetAlertListener.check(event(500, 1500)); // 이미 100% 이상
+        verifyNoMoreInteractions(mailService);
+    }
+
+    @Test
+    void alertsOnlyLargestThresholdWhenBothAreCrossedAtOnce() {
+        givenBudget(1000);
+
+        budgetAlertListener.check(event(600, 1100)); // 50% -> 110%
+
+        verify(mailService).sendBudgetAlert(EMAIL, "식비", MONTH, 100, 1000L, 1100L);
+        verifyNoMoreInteractions(mailService);
+    }
+
+    @Test
+    void noAlertWithoutBudget() {
+        when(budgetRepository.findByUserIdAndCategoryCategoryIdAndBudgetMonth(eq(USER_ID), eq(CATEGORY_ID), any()))
+                .thenReturn(Optional.empty());
+
+        budgetAlertListener.check(event(5000, 5000));
+
+        verifyNoInteractions(mailService);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void noAlertWithZeroBudget() {
+        givenBudget(0);
+
+        budgetAlertListener.check(event(100, 100));
+
+        verifyNoInteractions(mailService);
+    }
+
+    private void givenBudget(int budgetMoney) {
+        Budget budget = new Budget();
+        budget.setBudgetMoney(budgetMoney);
+        budget.setBudgetMonth(MONTH.atDay(1).atStartOfDay());
+        when(budgetRepository.findByUserIdAndCategoryCategoryIdAndBudgetMonth(
+                USER_ID, CATEGORY_ID, MONTH.atDay(1).atStartOfDay())).thenReturn(Optional.of(budget));
+    }
+
+    private ExpenseRecordedEvent event(int expenseAmount, long monthSpentMoney) {
+        return new ExpenseRecordedEvent(USER_ID, CATEGORY_ID, EXPENSE_DATE, expenseAmount, monthSpentMoney);
+    }
+}
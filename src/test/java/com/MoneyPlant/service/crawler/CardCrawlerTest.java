@@ -0,0 +1,126 @@
+package com.MoneyPlant.service.crawler;
+
+import com.MoneyPlant.dto.CardDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 카드 검색 결과 HTML 로 크롤링(파싱)과 card_list 비교 결과 확인
+// fixture 는 손으로 작성한 HTML 이라 실제 응답 구조가 바뀌어도 이 테스트로는 알 수 없습니다.
+class CardCrawlerTest {
+    private static final String FOOD_URL = "fixture:card-list-food.html";
+    private static final String BROKEN_URL = "fixture:missing.html";
+
+    // URL 대신 src/test/resources/crawler 아래 HTML 을 읽음
+    private final CardCrawler cardCrawler = new CardCrawler(url -> {
+        String path = "/crawler/" + url.substring("fixture:".length());
+        try (InputStream inputStream = CardCrawlerTest.class.getResourceAsStream(path)) {
+            if (inputStream == null) {
+                throw new IOException("fixture 없음: " + path);
+            }
+            return new String(readAll(inputStream), StandardCharsets.UTF_8);
+        }
+    });
+
+    @Test
+    void parsesFixtureAndSkipsFailedCategory() throws InterruptedException {
+        Map<String, String> categoryUrls = new LinkedHashMap<>();
+        categoryUrls.put("식비", FOOD_URL);
+        categoryUrls.put("주유", BROKEN_URL);
+
+        List<String> doneCategories = Collections.synchronizedList(new ArrayList<>());
+
+        CardCrawlResult result = cardCrawler.crawl(categoryUrls, doneCategories::add);
+
+        assertEquals(2, doneCategories.size()); // 실패한 카테고리도 진행 상황에 포함
+        assertEquals(Collections.singletonList("주유"), result.getFailedCategories());
+        List<CardDto> cards = result.getCardsByCategory().get("식비");
+        assertEquals(2, cards.size());
+
+        CardDto first = cards.get(0);
+        assertEquals("MP 식비 카드", first.getCardName());
+        assertEquals("식비", first.getCardCategory());
+        assertEquals("음식점 10% 할인", first.getCardDesc());
+        assertEquals("국내전용 10,000원", first.getCardAnnualFee());
+        assertEquals("https://example.com/card/101.png", first.getCardImg());
+        assertEquals("https://card-search.naver.com/item?cardAdId=101&from=list", first.getCardLink());
+
+        CardDto second = cards.get(1);
+        assertEquals("Deep&Dream 카드", second.getCardName());
+        assertEquals("https://example.com/card/102.png", second.getCardImg());
+        assertEquals("https://card-search.naver.com/item?cardAdId=102", second.getCardLink());
+    }
+
+    @Test
+    void reportsCategoriesSkippedByFetcherBasedDeadline() throws InterruptedException {
+        // 페이지당 1초 fetcher, 카테고리 1개 -> 전체 제한 1초 × (1묶음 + 1) = 2초
+        CardCrawler slowCrawler = new CardCrawler(new CardPageFetcher() {
+            @Override
+            public String fetch(String url) throws Exception {
+                Thread.sleep(10_000);
+                return "";
+            }
+
+            @Override
+            public long fetchTimeoutSeconds() {
+                return 1;
+            }
+        });
+
+        CardCrawlResult result = slowCrawler.crawl(Collections.singletonMap("식비", FOOD_URL), category -> { });
+
+        assertTrue(result.getCardsByCategory().isEmpty());
+        assertEquals(Collections.singletonList("식비"), result.getFailedCategories());
+        assertEquals(Collections.singletonList("식비"), result.getTimedOutCategories());
+    }
+
+    @Test
+    void diffTouchesOnlyChangedRowsOfCrawledCategories() throws InterruptedException {
+        Map<String, String> categoryUrls = new LinkedHashMap<>();
+        categoryUrls.put("식비", FOOD_URL);
+        CardCrawlResult result = cardCrawler.crawl(categoryUrls, category -> { });
+
+        List<CardDto> existing = Arrays.asList(
+                card(1L, "MP 식비 카드", "식비", "음식점 10% 할인", "국내전용 10,000원",
+                        "https://example.com/card/101.png", "https://card-search.naver.com/item?cardAdId=101&from=list"),
+                card(2L, "Deep&Dream 카드", "식비", "배달앱 3% 적립", "국내전용 15,000원 | 해외겸용 18,000원",
+                        "https://example.com/card/102.png", "https://card-search.naver.com/item?cardAdId=102"),
+                card(3L, "단종 카드", "식비", "음식점 1% 할인", "없음", null, null),
+                card(4L, "MP 식비 카드", "식비", "음식점 10% 할인", "국내전용 10,000원", null, null),
+                card(5L, "주유 카드", "주유", "리터당 100원 할인", "없음", null, null));
+
+        CardCatalogDiff diff = CardCatalogDiff.compute(existing, result.getCardsByCategory());
+
+        assertTrue(diff.getInserts().isEmpty());
+        assertEquals(1, diff.getUpdates().size());
+        assertEquals(2L, diff.getUpdates().get(0).getCardId());
+        assertEquals("배달앱 5% 적립", diff.getUpdates().get(0).getCardDesc());
+        // 사라진 카드와 중복 행만 삭제, 크롤링하지 않은 카테고리(주유)는 그대로
+        assertEquals(Arrays.asList(3L, 4L), diff.getDeletes());
+
+        CardCatalogDiff fromEmpty = CardCatalogDiff.compute(Collections.emptyList(), result.getCardsByCategory());
+        assertEquals(2, fromEmpty.getInserts().size());
+        assertTrue(fromEmpty.getUpdates().isEmpty());
+        assertTrue(fromEmpty.getDeletes().isEmpty());
+    }
+
+    private static CardDto card(Long cardId, String name, String category, String desc, String annualFee,
+                                String img, String link) {
+        return new CardDto(cardId, name, category, desc, img, link, annualFee, null);
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[8192];
+        java.io.ByteArrayOutputStream outputStream = new java.io.ByteArrayOutputStream();
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,41 @@
+package com.MoneyPlant.service.recommend;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 카드사 혜택/연회비 문구 해석 확인
+class CardBenefitParserTest {
+
+    @Test
+    void parsesRate() {
+        assertEquals(0.007, CardBenefitParser.parseRate("모든 가맹점 0.7% 적립"), 1e-9);
+        assertEquals(0.1, CardBenefitParser.parseRate("스타벅스 10% 할인, 편의점 5% 할인"), 1e-9);
+        assertEquals(100 / 1700.0, CardBenefitParser.parseRate("주유 리터당 최대 100원 할인"), 1e-9);
+        assertEquals(0.5, CardBenefitParser.parseRate("첫 달 80% 캐시백"), 1e-9);
+        assertEquals(0, CardBenefitParser.parseRate("공항 라운지 무료 이용"), 1e-9);
+        assertEquals(0, CardBenefitParser.parseRate(null), 1e-9);
+    }
+
+    @Test
+    void parsesMonthlyCap() {
+        assertEquals(10000, CardBenefitParser.parseMonthlyCap("커피 10% 할인 (월 최대 1만원)"));
+        assertEquals(5000, CardBenefitParser.parseMonthlyCap("대중교통 10% 할인, 월 할인한도 5,000원"));
+        assertEquals(5000, CardBenefitParser.parseMonthlyCap("편의점 5% 할인 월 최대 5천원"));
+        assertEquals(15000, CardBenefitParser.parseMonthlyCap("월 통합 한도 1.5만원"));
+        assertEquals(3000, CardBenefitParser.parseMonthlyCap("배달앱 월 최대 1만원, 영화 월 최대 3,000원 할인"));
+        // 리터당 금액은 한도가 아님
+        assertEquals(0, CardBenefitParser.parseMonthlyCap("주유 리터당 최대 100원 할인"));
+        assertEquals(0, CardBenefitParser.parseMonthlyCap("모든 가맹점 0.7% 적립"));
+        assertEquals(0, CardBenefitParser.parseMonthlyCap(null));
+    }
+
+    @Test
+    void parsesAnnualFee() {
+        assertEquals(10000, CardBenefitParser.parseAnnualFee("국내전용 10,000원 | 해외겸용 12,000원"));
+        assertEquals(10000, CardBenefitParser.parseAnnualFee("1만원"));
+        assertEquals(15000, CardBenefitParser.parseAnnualFee("해외겸용 1.5만원 | 국내전용 2만원"));
+        assertEquals(0, CardBenefitParser.parseAnnualFee("없음"));
+        assertEquals(0, CardBenefitParser.parseAnnualFee(null));
+    }
+}
@@ -0,0 +1,88 @@
+package com.MoneyPlant.service.recommend;
+
+import com.MoneyPlant.dto.CardDto;
+import com.MoneyPlant.dto.CardScoreDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 카드별 순혜택 계산과 상위 limit 개 선택(최소 힙) 확인
+class CardScoringIndexTest {
+    private long cardId;
+
+    @Test
+    void ranksByNetBenefitWithMonthlyCap() {
+        CardScoringIndex index = CardScoringIndex.build(Arrays.asList(
+                row("카페카드", "카페", "카페 20% 할인 (월 최대 1만원)", "없음"),
+                row("카페카드", "식비", "음식점 1% 적립", "없음"),
+                row("생활카드", "카페", "카페 5% 할인", "12,000원"),
+                row("생활카드", "식비", "음식점 5% 할인", "12,000원"),
+                row("기본카드", "카페", "모든 가맹점 1% 적립", "없음")));
+
+        Map<String, Long> monthlySpend = new HashMap<>();
+        monthlySpend.put("카페", 100_000L);
+        monthlySpend.put("식비", 200_000L);
+        monthlySpend.put("쇼핑", 50_000L); // 카드 카테고리에 없는 지출은 무시
+
+        List<CardScoreDto> top = index.topK(monthlySpend, 3);
+
+        // 생활카드: 5000 + 10000 - 1000(월 연회비) = 14000
+        // 카페카드: min(20000, 월 한도 10000) + 2000 = 12000 (한도가 없으면 22000 으로 1위)
+        // 기본카드: 1000
+        assertEquals(Arrays.asList("생활카드", "카페카드", "기본카드"), names(top));
+        assertEquals(14000, top.get(0).getNetBenefit());
+        assertEquals(12000, top.get(1).getExpectedBenefit());
+        assertEquals(12000, top.get(1).getNetBenefit());
+        assertEquals(Arrays.asList("카페 20% 할인 (월 최대 1만원)", "음식점 1% 적립"), top.get(1).getCardDescList());
+        assertEquals(1000, top.get(2).getNetBenefit());
+    }
+
+    @Test
+    void tiesKeepEarlierCard() {
+        CardScoringIndex index = CardScoringIndex.build(Arrays.asList(
+                row("첫번째", "식비", "음식점 5% 할인", "없음"),
+                row("두번째", "식비", "음식점 5% 할인", "없음"),
+                row("세번째", "식비", "음식점 5% 할인", "없음"),
+                row("네번째", "식비", "음식점 1% 할인", "없음")));
+
+        Map<String, Long> monthlySpend = Collections.singletonMap("식비", 100_000L);
+
+        assertEquals(Arrays.asList("첫번째", "두번째"), names(index.topK(monthlySpend, 2)));
+        assertEquals(Arrays.asList("첫번째", "두번째", "세번째", "네번째"), names(index.topK(monthlySpend, 4)));
+    }
+
+    @Test
+    void limitLargerThanCardCountReturnsAllCards() {
+        CardScoringIndex index = CardScoringIndex.build(Arrays.asList(
+                row("알뜰카드", "주유", "주유 리터당 최대 100원 할인", "없음"),
+                row("프리미엄카드", "주유", "주유 10% 할인", "12만원")));
+
+        List<CardScoreDto> top = index.topK(Collections.singletonMap("주유", 170_000L), 10);
+
+        // 알뜰카드: 170000 * 100 / 1700 = 10000, 프리미엄카드: 17000 - 10000 = 7000
+        assertEquals(Arrays.asList("알뜰카드", "프리미엄카드"), names(top));
+        assertEquals(10000, top.get(0).getNetBenefit());
+        assertEquals(7000, top.get(1).getNetBenefit());
+        assertEquals(10000, top.get(1).getMonthlyFee());
+    }
+
+    @Test
+    void emptyIndexAndZeroLimit() {
+        Map<String, Long> monthlySpend = Collections.singletonMap("식비", 100_000L);
+
+        assertTrue(CardScoringIndex.empty().topK(monthlySpend, 5).isEmpty());
+        assertTrue(CardScoringIndex.build(Collections.singletonList(row("카드", "식비", "5% 할인", "없음")))
+                .topK(monthlySpend, 0).isEmpty());
+    }
+
+    private CardDto row(String cardName, String cardCategory, String cardDesc, String cardAnnualFee) {
+        return new CardDto(++cardId, cardName, cardCategory, cardDesc, null, null, cardAnnualFee, null);
+    }
+
+    private static List<String> names(List<CardScoreDto> scores) {
+        return scores.stream().map(CardScoreDto::getCardName).collect(Collectors.toList());
+    }
+}